@@ -0,0 +1,99 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.person.AddedOn;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Event;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Offset;
+import seedu.address.model.person.Organisation;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates reproducible address book contents of arbitrary size for benchmarks.
+ * Low-cardinality fields (countries, offsets, organisations, tags) are drawn from small pools, as in real books.
+ */
+public class SyntheticPersons {
+
+    private static final String[] COUNTRY_NAMES = {
+        "", "Singapore", "Malaysia", "Japan", "China", "India", "Germany", "France", "Brazil", "Canada",
+        "Australia", "Indonesia", "Vietnam", "Thailand", "Philippines", "Mexico", "Spain", "Italy", "Kenya", "Egypt"
+    };
+    private static final String[] OFFSETS = {"+00:00", "+08:00", "+09:00", "+05:30", "-05:00", "+01:00", "-08:00"};
+    private static final String[] ORGANISATIONS = {"", "NUS", "NTU", "SMU", "Acme", "Globex", "Initech", "Umbrella"};
+    private static final String[] TAGS = {"friends", "colleagues", "vip", "family", "erasmus", "client"};
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2020, 1, 1, 0, 0);
+
+    private SyntheticPersons() {
+    }
+
+    /**
+     * Returns {@code count} persons with unique names, generated from {@code seed}.
+     * Roughly a fifth of them are archived.
+     */
+    public static List<Person> generate(int count, long seed) {
+        Random random = new Random(seed);
+        List<Country> countries = new ArrayList<>();
+        for (String countryName : COUNTRY_NAMES) {
+            countries.add(Country.of(countryName));
+        }
+        List<Offset> offsets = new ArrayList<>();
+        for (String offset : OFFSETS) {
+            offsets.add(Offset.of(offset));
+        }
+        Address address = new Address("1 Benchmark Road");
+        Event event = new Event("");
+        Note note = new Note("");
+
+        Set<String> usedNames = new HashSet<>();
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name;
+            do {
+                name = randomWord(random) + " " + randomWord(random);
+            } while (!usedNames.add(name.toLowerCase()));
+
+            Set<Tag> tags = new HashSet<>();
+            tags.add(Tag.of(TAGS[random.nextInt(TAGS.length)]));
+            if (random.nextBoolean()) {
+                tags.add(Tag.of(TAGS[random.nextInt(TAGS.length)]));
+            }
+
+            persons.add(new Person(new Name(name),
+                    new Phone(String.valueOf(80000000 + random.nextInt(20000000))),
+                    new Email("user" + i + "@example.com"),
+                    address,
+                    countries.get(random.nextInt(countries.size())),
+                    Organisation.of(ORGANISATIONS[random.nextInt(ORGANISATIONS.length)]),
+                    event,
+                    note,
+                    tags,
+                    offsets.get(random.nextInt(offsets.size())),
+                    null,
+                    new AddedOn(EPOCH.plusMinutes(random.nextInt(3_000_000))),
+                    random.nextInt(5) == 0));
+        }
+        return persons;
+    }
+
+    private static String randomWord(Random random) {
+        int length = 3 + random.nextInt(6);
+        StringBuilder word = new StringBuilder(length);
+        word.append((char) ('A' + random.nextInt(26)));
+        for (int i = 1; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(26)));
+        }
+        return word.toString();
+    }
+}
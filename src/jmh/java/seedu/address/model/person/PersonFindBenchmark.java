@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+
+/**
+ * Compares {@code find} answered by scanning every person with {@link NameContainsKeywordsPredicate#test(Person)}
+ * against the same query answered from the name word index of {@link PersonIndexes}, and likewise for
+ * {@code search} with {@link PersonMatchesPrefixesPredicate}, and {@code findloose} with
+ * {@link PersonMatchesLooselyPredicate}, whose bound form should cost the same as that of {@code find}.
+ *
+ * {@code filterWithBoundPredicate} is what the filtered list does after {@code find}: it still tests every
+ * person, but each test is a lookup in the posting lists. {@code unionOfPostingLists} only touches the matches.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersonFindBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private PersonIndexes indexes;
+    private List<String> keywords;
+    private NameContainsKeywordsPredicate predicate;
+    private String namePrefix;
+    private PersonMatchesPrefixesPredicate prefixPredicate;
+    private PersonMatchesLooselyPredicate loosePredicate;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticPersons.generate(size, 42);
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        indexes = list.getIndexes();
+
+        // One first name and one last name that occur in the book, in the case a user would type them
+        List<String> firstWords = persons.get(0).getName().getTokens();
+        List<String> secondWords = persons.get(1).getName().getTokens();
+        keywords = List.of(firstWords.get(0), secondWords.get(1).toUpperCase());
+        predicate = new NameContainsKeywordsPredicate(keywords);
+        namePrefix = firstWords.get(0).substring(0, 3);
+        prefixPredicate = new PersonMatchesPrefixesPredicate(List.of(namePrefix), List.of(), List.of(), List.of());
+        loosePredicate = new PersonMatchesLooselyPredicate(keywords, List.of());
+    }
+
+    @Benchmark
+    public long scanWithPredicate() {
+        return count(predicate);
+    }
+
+    @Benchmark
+    public long filterWithBoundPredicate() {
+        return count(predicate.bindTo(indexes));
+    }
+
+    @Benchmark
+    public Set<Person> unionOfPostingLists() {
+        return indexes.withAnyNameWord(keywords);
+    }
+
+    @Benchmark
+    public long scanWithPrefixPredicate() {
+        return count(prefixPredicate);
+    }
+
+    @Benchmark
+    public Set<Person> nameWordPrefixLookup() {
+        return indexes.withNameWordPrefix(namePrefix);
+    }
+
+    @Benchmark
+    public long scanWithLoosePredicate() {
+        return count(loosePredicate);
+    }
+
+    @Benchmark
+    public long filterWithBoundLoosePredicate() {
+        return count(loosePredicate.bindTo(indexes));
+    }
+
+    private long count(Predicate<Person> test) {
+        long matches = 0;
+        for (Person person : persons) {
+            if (test.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+
+/**
+ * Compares {@code findfuzzy} answered by computing the edit distance to every person's name words against
+ * the same query answered from the sorted index of name words in {@link PersonIndexes}.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersonFuzzyFindBenchmark {
+
+    @Param({"500000"})
+    private int size;
+
+    @Param({"1", "2"})
+    private int maxEdits;
+
+    private List<Person> persons;
+    private PersonIndexes indexes;
+    private List<String> words;
+    private NameFuzzyMatchesPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticPersons.generate(size, 42);
+        UniquePersonList list = new UniquePersonList();
+        list.setPersons(persons);
+        indexes = list.getIndexes();
+
+        // A name word of the book with its last two letters swapped, as a typing mistake would
+        String word = persons.get(0).getName().getTokens().get(0);
+        int last = word.length() - 1;
+        words = List.of(word.substring(0, last - 1) + word.charAt(last) + word.charAt(last - 1));
+        predicate = new NameFuzzyMatchesPredicate(words, maxEdits);
+    }
+
+    @Benchmark
+    public long scanWithPredicate() {
+        long matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public Map<Person, Integer> indexedLookup() {
+        return indexes.withNameWordsWithin(words, maxEdits);
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+
+/**
+ * Compares sorting persons with the comparators used by {@link UniquePersonList} against the previous
+ * comparators, which compared names with {@code compareToIgnoreCase} and built a {@code Country} per comparison.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersonSortBenchmark {
+
+    private static final Comparator<Person> LEGACY_NAME_ORDER = (p1, p2) ->
+            p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName);
+    private static final Comparator<Person> LEGACY_DATE_ORDER = (p1, p2) ->
+            p1.getAddedOn().compareTo(p2.getAddedOn());
+    private static final Comparator<Person> LEGACY_COUNTRY_ORDER = (p1, p2) -> {
+        int compareByCountry = legacyCountryKey(p1).compareTo(legacyCountryKey(p2));
+        return compareByCountry != 0 ? compareByCountry : LEGACY_NAME_ORDER.compare(p1, p2);
+    };
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Person> persons;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticPersons.generate(size, 42);
+    }
+
+    @Benchmark
+    public List<Person> sortByNameLegacy() {
+        return sorted(LEGACY_NAME_ORDER);
+    }
+
+    @Benchmark
+    public List<Person> sortByNameCachedKeys() {
+        return sorted(UniquePersonList.NAME_ORDER);
+    }
+
+    @Benchmark
+    public List<Person> sortByCountryLegacy() {
+        return sorted(LEGACY_COUNTRY_ORDER);
+    }
+
+    @Benchmark
+    public List<Person> sortByCountryCachedKeys() {
+        return sorted(UniquePersonList.COUNTRY_ORDER);
+    }
+
+    @Benchmark
+    public List<Person> sortByDateLegacy() {
+        return sorted(LEGACY_DATE_ORDER);
+    }
+
+    @Benchmark
+    public List<Person> sortByDateCachedKeys() {
+        return sorted(UniquePersonList.DATE_ORDER);
+    }
+
+    private List<Person> sorted(Comparator<Person> order) {
+        List<Person> copy = new ArrayList<>(persons);
+        copy.sort(order);
+        return copy;
+    }
+
+    private static String legacyCountryKey(Person p) {
+        Country c = p.getCountry();
+        if (c.equals(new Country("")) || c.toString().isBlank()) {
+            return Person.BLANK_COUNTRY_SORT_KEY;
+        }
+        return c.toString().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model.person.query;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Offset;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares {@code query tag:vip AND country:Japan AND organisation:NUS AND NOT archived AND offset:+09:00}
+ * answered by testing every person against the same query planned against the indexes, which starts from
+ * the smallest posting list and only tests the other terms on its persons.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PersonQueryBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+
+    private List<Person> persons;
+    private PersonIndexes indexes;
+    private PersonQuery query;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticPersons.generate(size, 42);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        indexes = addressBook.getIndexes();
+        query = PersonQuery.and(List.of(
+                PersonQuery.tag(Tag.of("vip")),
+                PersonQuery.country(Country.of("Japan")),
+                PersonQuery.organisation("NUS"),
+                PersonQuery.not(PersonQuery.archived()),
+                PersonQuery.offset(Offset.of("+09:00"))));
+    }
+
+    @Benchmark
+    public long scanWithQuery() {
+        return persons.stream().filter(query::test).count();
+    }
+
+    @Benchmark
+    public Set<Person> planAgainstIndexes() {
+        return query.find(indexes);
+    }
+}
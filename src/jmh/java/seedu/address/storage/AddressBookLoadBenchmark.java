@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.SyntheticPersons;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Measures loading the data file at startup, as {@code MainApp} does, against binding the whole file and then
+ * converting the persons one at a time on a single thread, either building the address book once or adding the
+ * persons one by one as the previous loader did.
+ *
+ * Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AddressBookLoadBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private Path folder;
+    private Path filePath;
+
+    @Setup
+    public void setUp() throws IOException {
+        List<Person> persons = SyntheticPersons.generate(size, 42).stream()
+                .map(person -> person.withArchivalStatus(false))
+                .toList();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        folder = Files.createTempDirectory("load-benchmark");
+        filePath = folder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws Exception {
+        return new JsonAddressBookStorage(filePath).readUnarchivedAddressBook().get();
+    }
+
+    @Benchmark
+    public AddressBook loadConvertingSequentially() throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : readBoundPersons()) {
+            persons.add(jsonAdaptedPerson.toModelType());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    @Benchmark
+    public AddressBook loadAddingOneByOne() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (JsonAdaptedPerson jsonAdaptedPerson : readBoundPersons()) {
+            Person person = jsonAdaptedPerson.toModelType();
+            if (!addressBook.hasPerson(person)) {
+                addressBook.addPerson(person);
+            }
+        }
+        return addressBook;
+    }
+
+    private List<JsonAdaptedPerson> readBoundPersons() throws Exception {
+        return JsonUtil.readJsonFile(filePath, BoundPersons.class).get().persons;
+    }
+
+    /**
+     * The persons of the data file, bound all at once as the previous loader did.
+     */
+    private static class BoundPersons {
+        private List<JsonAdaptedPerson> persons = new ArrayList<>();
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents a selection of items in a displayed list: either every item, or the items at a set of
+ * {@code Index} ranges such as {@code 1-500} or {@code 3,7,9}.
+ *
+ * Ranges are stored as given, so a selection stays small however many items it covers. A selection is
+ * only resolved into items against a list, at which point overlapping ranges select each item once.
+ */
+public class IndexSelection {
+
+    /** Selects every item of the list it is resolved against. */
+    public static final IndexSelection ALL = new IndexSelection(null);
+
+    /** Inclusive ranges, as pairs of {@code Index}; null when every item is selected. */
+    private final List<Index[]> ranges;
+
+    private IndexSelection(List<Index[]> ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * Creates a selection of the single item at {@code index}.
+     */
+    public static IndexSelection of(Index index) {
+        requireNonNull(index);
+        return ofRange(index, index);
+    }
+
+    /**
+     * Creates a selection of the items from {@code first} to {@code last}, both inclusive.
+     */
+    public static IndexSelection ofRange(Index first, Index last) {
+        requireNonNull(first);
+        requireNonNull(last);
+        if (last.getZeroBased() < first.getZeroBased()) {
+            throw new IllegalArgumentException("The last index of a range must not come before the first");
+        }
+        return new IndexSelection(List.<Index[]>of(new Index[] {first, last}));
+    }
+
+    /**
+     * Returns a selection of the items selected by this selection or by {@code other}.
+     */
+    public IndexSelection union(IndexSelection other) {
+        requireNonNull(other);
+        if (isAll() || other.isAll()) {
+            return ALL;
+        }
+        List<Index[]> combined = new ArrayList<>(ranges);
+        combined.addAll(other.ranges);
+        return new IndexSelection(Collections.unmodifiableList(combined));
+    }
+
+    /**
+     * Returns true if this selection selects every item.
+     */
+    public boolean isAll() {
+        return ranges == null;
+    }
+
+    /**
+     * Returns true if every index of this selection refers to an item of a list of {@code size} items.
+     */
+    public boolean isWithin(int size) {
+        return isAll() || ranges.stream().allMatch(range -> range[1].getZeroBased() < size);
+    }
+
+    /**
+     * Returns the selected items of {@code items}, in list order and without repeats.
+     * The selection must be {@link #isWithin(int) within} {@code items}.
+     */
+    public <T> List<T> selectFrom(List<T> items) {
+        requireNonNull(items);
+        assert isWithin(items.size());
+        if (isAll()) {
+            return new ArrayList<>(items);
+        }
+
+        BitSet selected = new BitSet(items.size());
+        for (Index[] range : ranges) {
+            selected.set(range[0].getZeroBased(), range[1].getZeroBased() + 1);
+        }
+        List<T> selectedItems = new ArrayList<>(selected.cardinality());
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            selectedItems.add(items.get(i));
+        }
+        return selectedItems;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof IndexSelection)) {
+            return false;
+        }
+
+        IndexSelection otherSelection = (IndexSelection) other;
+        if (isAll() || otherSelection.isAll()) {
+            return isAll() && otherSelection.isAll();
+        }
+        if (ranges.size() != otherSelection.ranges.size()) {
+            return false;
+        }
+        for (int i = 0; i < ranges.size(); i++) {
+            if (!ranges.get(i)[0].equals(otherSelection.ranges.get(i)[0])
+                    || !ranges.get(i)[1].equals(otherSelection.ranges.get(i)[1])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        if (isAll()) {
+            return new ToStringBuilder(this).add("ranges", "all").toString();
+        }
+        StringBuilder rangeList = new StringBuilder();
+        for (Index[] range : ranges) {
+            if (rangeList.length() > 0) {
+                rangeList.append(',');
+            }
+            rangeList.append(range[0].getOneBased());
+            if (!range[0].equals(range[1])) {
+                rangeList.append('-').append(range[1].getOneBased());
+            }
+        }
+        return new ToStringBuilder(this).add("ranges", rangeList).toString();
+    }
+}
@@ -1,17 +1,37 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
-    private static final String CHARSET = "UTF-8";
+    private static final Charset CHARSET = StandardCharsets.UTF_8;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -75,9 +95,69 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The content is written to a temporary file next to it, which then replaces the file in a single rename,
+     * so the file holds either its old or its new content even if writing stops halfway.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeToFile(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes to a file whatever {@code contentWriter} writes to the stream it is given, as it is written,
+     * through a buffer over the file's channel, instead of building the whole content in memory first.
+     * Like {@link #writeToFile(Path, String)}, the file is only replaced once all of it is written.
+     * The content writer must not close the stream.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        Path tempFile = file.resolveSibling(file.getFileName() + TEMP_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel), WRITE_BUFFER_SIZE);
+            contentWriter.writeTo(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+        replaceAtomically(tempFile, file);
+    }
+
+    /**
+     * Moves {@code source} over {@code target} in a single rename where the file system supports it.
+     */
+    public static void replaceAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Cuts off the last line of {@code file} if it does not end with a line break, as when the application
+     * stopped while appending it, so that lines appended later start on a line of their own.
+     *
+     * @return true if a line was cut off.
+     */
+    public static boolean truncateIncompleteLastLine(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer lastByte = ByteBuffer.allocate(1);
+            long end = channel.size();
+            while (end > 0) {
+                lastByte.clear();
+                channel.read(lastByte, end - 1);
+                if (lastByte.get(0) == '\n') {
+                    break;
+                }
+                end--;
+            }
+            if (end == channel.size()) {
+                return false;
+            }
+            channel.truncate(end);
+            return true;
+        }
     }
 
 }
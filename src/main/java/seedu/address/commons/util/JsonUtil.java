@@ -3,6 +3,7 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +12,8 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -101,6 +104,31 @@ public class JsonUtil {
         return objectMapper.readValue(json, instanceClass);
     }
 
+    /**
+     * Returns a streaming parser over the given JSON file.
+     * Values read through the parser, e.g. with {@link JsonParser#readValueAsTree()}, are bound using the same
+     * settings as {@link #readJsonFile(Path, Class)}.
+     * The caller is responsible for closing the parser.
+     */
+    public static JsonParser createParser(Path jsonFile) throws IOException {
+        requireNonNull(jsonFile);
+        return objectMapper.getFactory().createParser(jsonFile.toFile());
+    }
+
+    /**
+     * Returns a streaming generator that writes pretty-printed JSON to the given stream, in the same format as
+     * {@link #saveJsonFile(Object, Path)}.
+     * Values written through the generator, e.g. with {@link JsonGenerator#writeObject(Object)}, are serialized
+     * using the same settings as {@link #saveJsonFile(Object, Path)}.
+     * The caller is responsible for closing the generator, which flushes but does not close the stream.
+     */
+    public static JsonGenerator createGenerator(OutputStream out) throws IOException {
+        requireNonNull(out);
+        return objectMapper.getFactory().createGenerator(out)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .useDefaultPrettyPrinter();
+    }
+
     /**
      * Converts a given instance of a class into its JSON data string representation
      * @param instance The T object to be converted into the JSON string
@@ -111,6 +139,14 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * so that instances can be appended to a file one per line.
+     */
+    public static <T> String toJsonLine(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
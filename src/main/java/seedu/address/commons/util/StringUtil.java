@@ -5,13 +5,21 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.Normalizer;
 import java.util.Arrays;
+import java.util.Map;
 
 /**
  * Helper functions for handling strings.
  */
 public class StringUtil {
 
+    /** Letters that compatibility decomposition leaves whole, spelt without their marks. */
+    private static final Map<Integer, String> UNDECOMPOSED_LETTERS = Map.ofEntries(
+            Map.entry((int) 'ø', "o"), Map.entry((int) 'ł', "l"), Map.entry((int) 'đ', "d"),
+            Map.entry((int) 'ħ', "h"), Map.entry((int) 'ı', "i"), Map.entry((int) 'ß', "ss"),
+            Map.entry((int) 'æ', "ae"), Map.entry((int) 'œ', "oe"), Map.entry((int) 'þ', "th"));
+
     /**
      * Returns true if the {@code sentence} contains the {@code word}.
      *   Ignores case, but a full word match is required.
@@ -65,4 +73,31 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns {@code text} folded so that it compares equal to its variants in case, accents and compatibility
+     * forms of letters, such as full-width letters. e.g. {@code José}, {@code JOSE} and {@code Ｊｏｓｅ} all fold to
+     * {@code jose}, and {@code Łódź} folds to {@code lodz}.
+     * The text is decomposed (NFKD), stripped of combining marks and then case-folded code point by code point.
+     */
+    public static String foldForLooseMatch(String text) {
+        requireNonNull(text);
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        decomposed.codePoints().forEach(codePoint -> {
+            int type = Character.getType(codePoint);
+            if (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                    || type == Character.ENCLOSING_MARK) {
+                return;
+            }
+            int lowerCase = Character.toLowerCase(Character.toUpperCase(codePoint));
+            String replacement = UNDECOMPOSED_LETTERS.get(lowerCase);
+            if (replacement != null) {
+                folded.append(replacement);
+            } else {
+                folded.appendCodePoint(lowerCase);
+            }
+        });
+        return folded.toString();
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Shares one instance of a value per key among everything that uses it, without keeping values that nothing
+ * else uses any more. Suits values of free text, which are not drawn from a fixed set, so that their number
+ * is not bounded for the life of the application.
+ * The values created must keep a reference to the key they were created from, so that the key stays in the
+ * table for as long as its value is in use.
+ *
+ * @param <T> the type of the values
+ */
+public class WeakInterner<T> {
+
+    private final Map<String, WeakReference<T>> interned = new WeakHashMap<>();
+    private final Function<String, T> factory;
+
+    /**
+     * Creates an interner that creates the value of a key it has not seen, or whose value is no longer used,
+     * with {@code factory}.
+     */
+    public WeakInterner(Function<String, T> factory) {
+        requireNonNull(factory);
+        this.factory = factory;
+    }
+
+    /**
+     * Returns the shared value for {@code key}, creating it if there is none in use.
+     */
+    public synchronized T intern(String key) {
+        requireNonNull(key);
+        WeakReference<T> reference = interned.get(key);
+        T value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            interned.put(key, new WeakReference<>(value));
+        }
+        return value;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -30,6 +31,18 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns how many commands of each kind were executed and saved the address book, and how long their saves took.
+     * Commands that leave the persons unchanged do not save.
+     */
+    SaveStatistics getSaveStatistics();
+
+    /**
+     * Sets the handler given the message of each address book save that failed after its command returned.
+     * The address book is saved again by the next command, whether or not it changes the address book.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
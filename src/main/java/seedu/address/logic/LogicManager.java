@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -32,6 +35,17 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final SaveStatistics saveStatistics = new SaveStatistics();
+
+    /** The modification count that no address book has, so that the next command saves the address book. */
+    private static final long UNSAVED = -1;
+
+    /**
+     * The modification count of the address book when it was last saved, or {@link #UNSAVED} if the storage
+     * reported that a save failed after it returned.
+     */
+    private volatile long savedModificationCount;
+    private volatile Consumer<String> saveFailureHandler;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and
@@ -41,6 +55,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedModificationCount = model.getAddressBookModificationCount();
+        storage.setSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
@@ -51,17 +67,61 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        String commandName = command.getClass().getSimpleName();
+        long modificationCount = model.getAddressBookModificationCount();
+        if (modificationCount == savedModificationCount) {
+            saveStatistics.recordSkipped(commandName);
+            return commandResult;
+        }
+
+        // Advanced before saving, so that a failure reported from another thread right away is not overwritten
+        long previouslySavedModificationCount = savedModificationCount;
+        savedModificationCount = modificationCount;
+        long saveStart = System.nanoTime();
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedModificationCount = previouslySavedModificationCount;
+            throw new CommandException(describeSaveFailure(ioe), ioe);
         }
+        long saveNanos = System.nanoTime() - saveStart;
+        saveStatistics.recordSaved(commandName, saveNanos);
+        logger.fine(() -> "Saved address book after " + commandName + " in " + saveNanos / 1_000_000 + " ms");
 
         return commandResult;
     }
 
+    @Override
+    public SaveStatistics getSaveStatistics() {
+        return saveStatistics;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Handles a save that the storage reported as failed after it returned, by having the next command save the
+     * address book again, whether or not it changes the address book, and telling the save failure handler.
+     * Called on the thread of the storage.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        savedModificationCount = UNSAVED;
+        Consumer<String> handler = saveFailureHandler;
+        if (handler != null) {
+            handler.accept(describeSaveFailure(ioe));
+        }
+    }
+
+    private static String describeSaveFailure(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -0,0 +1,97 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Counts, per kind of command, how many commands were executed, how many of them saved the address book,
+ * and how long those saves took.
+ */
+public class SaveStatistics {
+
+    private final Map<String, CommandSaves> savesByCommand = new LinkedHashMap<>();
+
+    /**
+     * Records that a command called {@code commandName} left nothing to save.
+     */
+    void recordSkipped(String commandName) {
+        savesFor(commandName).executionCount++;
+    }
+
+    /**
+     * Records that a command called {@code commandName} saved the address book in {@code nanos} nanoseconds.
+     */
+    void recordSaved(String commandName, long nanos) {
+        CommandSaves saves = savesFor(commandName);
+        saves.executionCount++;
+        saves.saveCount++;
+        saves.totalSaveNanos += nanos;
+        saves.maxSaveNanos = Math.max(saves.maxSaveNanos, nanos);
+    }
+
+    private CommandSaves savesFor(String commandName) {
+        requireNonNull(commandName);
+        return savesByCommand.computeIfAbsent(commandName, unused -> new CommandSaves());
+    }
+
+    /**
+     * Returns the names of the commands executed so far, in the order they were first executed.
+     */
+    public Set<String> getCommandNames() {
+        return Collections.unmodifiableSet(savesByCommand.keySet());
+    }
+
+    /**
+     * Returns the number of times a command called {@code commandName} was executed.
+     */
+    public int getExecutionCount(String commandName) {
+        CommandSaves saves = savesByCommand.get(commandName);
+        return saves == null ? 0 : saves.executionCount;
+    }
+
+    /**
+     * Returns the number of times a command called {@code commandName} saved the address book.
+     */
+    public int getSaveCount(String commandName) {
+        CommandSaves saves = savesByCommand.get(commandName);
+        return saves == null ? 0 : saves.saveCount;
+    }
+
+    /**
+     * Returns the time spent saving the address book after commands called {@code commandName}.
+     */
+    public Duration getTotalSaveTime(String commandName) {
+        CommandSaves saves = savesByCommand.get(commandName);
+        return Duration.ofNanos(saves == null ? 0 : saves.totalSaveNanos);
+    }
+
+    /**
+     * Returns the longest time taken to save the address book after a command called {@code commandName}.
+     */
+    public Duration getMaxSaveTime(String commandName) {
+        CommandSaves saves = savesByCommand.get(commandName);
+        return Duration.ofNanos(saves == null ? 0 : saves.maxSaveNanos);
+    }
+
+    @Override
+    public String toString() {
+        ToStringBuilder builder = new ToStringBuilder(this);
+        savesByCommand.forEach((commandName, saves) -> builder.add(commandName, saves.executionCount + " executed, "
+                + saves.saveCount + " saved in " + Duration.ofNanos(saves.totalSaveNanos).toMillis() + " ms"));
+        return builder.toString();
+    }
+
+    private static class CommandSaves {
+        private int executionCount;
+        private int saveCount;
+        private long totalSaveNanos;
+        private long maxSaveNanos;
+    }
+}
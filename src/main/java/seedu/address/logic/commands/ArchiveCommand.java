@@ -5,86 +5,87 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_UNARCHIVED;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Archives a person in the current list.
+ * Archives the selected persons in the current list.
  */
 public class ArchiveCommand extends Command {
 
     public static final String COMMAND_WORD = "archive";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Archives the specified person. "
-            + "Parameters: index: <index>\n"
-            + "Example: " + COMMAND_WORD
-            + " 1";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Archives the specified persons. "
+            + "Parameters: INDEXES (positive integers or ranges, separated by commas, or "
+            + ParserUtil.SELECT_ALL + ")\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " 1-500";
 
     public static final String MESSAGE_ARCHIVE_SUCCESS = "%s has been archived";
     public static final String MESSAGE_ALREADY_ARCHIVED = "%s is already archived";
+    public static final String MESSAGE_ARCHIVE_PERSONS_SUCCESS =
+            "%1$d persons have been archived (%2$d were already archived)";
+    public static final String MESSAGE_ALL_ALREADY_ARCHIVED = "All selected persons are already archived";
 
-    private final Index index;
+    private final IndexSelection targets;
 
     /**
      * Creates an ArchiveCommand to archive the person.
      */
     public ArchiveCommand(Index index) {
-        requireAllNonNull(index);
-        this.index = index;
+        this(IndexSelection.of(index));
+    }
+
+    /**
+     * Creates an ArchiveCommand to archive the persons selected by {@code targets}.
+     */
+    public ArchiveCommand(IndexSelection targets) {
+        requireAllNonNull(targets);
+        this.targets = targets;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> selectedPersons = selectPersons(model, targets);
+        List<Person> personsToArchive = selectedPersons.stream()
+                .filter(person -> !person.getArchivalStatus())
+                .collect(Collectors.toList());
+
+        if (personsToArchive.isEmpty()) {
+            throw new CommandException(selectedPersons.size() == 1
+                    ? String.format(MESSAGE_ALREADY_ARCHIVED, selectedPersons.get(0).getName())
+                    : MESSAGE_ALL_ALREADY_ARCHIVED);
         }
 
-        Person personToArchive = lastShownList.get(index.getZeroBased());
-
-        if (personToArchive.getArchivalStatus()) {
-            throw new CommandException(String.format(MESSAGE_ALREADY_ARCHIVED, personToArchive.getName()));
-        } else {
-            Person archivedPerson = new Person(
-                    personToArchive.getName(),
-                    personToArchive.getPhone(),
-                    personToArchive.getEmail(),
-                    personToArchive.getAddress(),
-                    personToArchive.getCountry(),
-                    personToArchive.getOrganisation(),
-                    personToArchive.getEvent(),
-                    personToArchive.getNote(),
-                    personToArchive.getTags(),
-                    personToArchive.getOffset(),
-                    personToArchive.getPreferredLanguage(),
-                    personToArchive.getAddedOn(),
-                    true);
-
-            model.setPerson(personToArchive, archivedPerson);
-            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
-        }
+        model.batch(book -> personsToArchive.forEach(person ->
+                book.setPerson(person, person.withArchivalStatus(true))));
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
 
-        return new CommandResult(String.format(MESSAGE_ARCHIVE_SUCCESS, personToArchive.getName()));
+        if (selectedPersons.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_ARCHIVE_SUCCESS, selectedPersons.get(0).getName()));
+        }
+        return new CommandResult(String.format(MESSAGE_ARCHIVE_PERSONS_SUCCESS, personsToArchive.size(),
+                selectedPersons.size() - personsToArchive.size()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof ArchiveCommand)
-                        && index.equals(((ArchiveCommand) other).index);
+                        && targets.equals(((ArchiveCommand) other).targets);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("targets", targets)
                 .toString();
     }
 
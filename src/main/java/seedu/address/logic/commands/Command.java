@@ -1,7 +1,12 @@
 package seedu.address.logic.commands;
 
+import java.util.List;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +22,21 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the persons of the displayed person list selected by {@code selection}, in list order.
+     *
+     * @throws CommandException if an index is outside the displayed list, or no person is selected.
+     */
+    protected static List<Person> selectPersons(Model model, IndexSelection selection) throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+        if (!selection.isWithin(lastShownList.size())) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+        List<Person> selectedPersons = selection.selectFrom(lastShownList);
+        if (selectedPersons.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_NO_PERSONS_SELECTED);
+        }
+        return selectedPersons;
+    }
+
 }
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.NameFuzzyMatchesPredicate;
+
+/**
+ * Finds and lists all persons in address book with a name word within a few edits of any of the given words,
+ * closest matches first.
+ * Matching is case-insensitive.
+ */
+public class FindFuzzyCommand extends Command {
+
+    public static final String COMMAND_WORD = "findfuzzy";
+
+    public static final int DEFAULT_MAX_EDITS = 1;
+    public static final int MAX_EDITS_LIMIT = 2;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with a name word that is "
+            + "within MAX_EDITS typing mistakes (default " + DEFAULT_MAX_EDITS + ", at most " + MAX_EDITS_LIMIT
+            + ") of any of the specified words (case-insensitive) and displays them as a list with index numbers, "
+            + "closest matches first.\n"
+            + "Parameters: NAME [MORE_NAMES]... [MAX_EDITS]\n"
+            + "Example: " + COMMAND_WORD + " Alx Yeo";
+
+    private final NameFuzzyMatchesPredicate predicate;
+
+    /**
+     * Creates a FindFuzzyCommand to filter the person list using the given {@code predicate}.
+     */
+    public FindFuzzyCommand(NameFuzzyMatchesPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindFuzzyCommand)) {
+            return false;
+        }
+
+        FindFuzzyCommand otherFindFuzzyCommand = (FindFuzzyCommand) other;
+        return predicate.equals(otherFindFuzzyCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
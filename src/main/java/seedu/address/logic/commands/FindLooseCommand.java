@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGANISATION;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonMatchesLooselyPredicate;
+
+/**
+ * Finds and lists all persons in address book whose name contains any of the given keywords, or whose
+ * organisation is any of the given organisations.
+ * Matching ignores case, accents and full-width forms of letters.
+ */
+public class FindLooseCommand extends Command {
+
+    public static final String COMMAND_WORD = "findloose";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
+            + "the specified keywords, or whose organisation is any of the specified organisations, ignoring case "
+            + "and accents, and displays them as a list with index numbers.\n"
+            + "Parameters: [KEYWORD]... "
+            + "[" + PREFIX_ORGANISATION + "ORGANISATION]...\n"
+            + "Example: " + COMMAND_WORD + " jose muller " + PREFIX_ORGANISATION + "universite de montreal";
+
+    private final PersonMatchesLooselyPredicate predicate;
+
+    /**
+     * Creates a FindLooseCommand to filter the person list using the given {@code predicate}.
+     */
+    public FindLooseCommand(PersonMatchesLooselyPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FindLooseCommand)) {
+            return false;
+        }
+
+        FindLooseCommand otherFindLooseCommand = (FindLooseCommand) other;
+        return predicate.equals(otherFindLooseCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
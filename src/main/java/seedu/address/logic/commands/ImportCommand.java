@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_UNARCHIVED;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.storage.ContactFileReader;
+
+/**
+ * Imports contacts from a CSV or JSON file into the address book.
+ * The file is read a chunk of records at a time, and the valid contacts of each chunk that are new to the address
+ * book are added in a single batch, so that no more than one chunk of the file is held in memory.
+ * Imports are not limited to {@link AddCommand#MAX_NUMBER_OF_CONTACTS}, which only applies to contacts added
+ * one at a time.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Imports contacts from a CSV or JSON file. "
+            + "Contacts that already exist in the address book or earlier in the file are skipped.\n"
+            + "Parameters: FILE_PATH (must end with .csv or .json)\n"
+            + "Example: " + COMMAND_WORD + " data/contacts.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d of %2$d contacts from %3$s "
+            + "in %4$.2fs (%5$.0f rows/s).";
+    public static final String MESSAGE_SKIPPED = "Skipped %1$d duplicate(s) and %2$d invalid row(s).";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more invalid row(s).";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not import %1$s: %2$s "
+            + "(%3$d contacts were imported before the error).";
+
+    /** The number of invalid rows listed individually in the result. */
+    public static final int MAX_ERRORS_SHOWN = 20;
+
+    private static final Logger logger = LogsCenter.getLogger(ImportCommand.class);
+
+    private final Path file;
+
+    /**
+     * Creates an ImportCommand to import the contacts in {@code file}.
+     */
+    public ImportCommand(Path file) {
+        requireNonNull(file);
+        this.file = file;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        long startTime = System.nanoTime();
+        int rowCount = 0;
+        int importedCount = 0;
+        int duplicateCount = 0;
+        int errorCount = 0;
+        List<String> shownErrors = new ArrayList<>();
+
+        try (ContactFileReader reader = ContactFileReader.open(file)) {
+            List<ContactFileReader.Row> chunk;
+            while (!(chunk = reader.readChunk()).isEmpty()) {
+                List<Person> toAdd = new ArrayList<>();
+                Set<Name> namesInChunk = new HashSet<>();
+                for (ContactFileReader.Row row : chunk) {
+                    if (!row.isValid()) {
+                        errorCount++;
+                        if (shownErrors.size() < MAX_ERRORS_SHOWN) {
+                            shownErrors.add(String.format(MESSAGE_ROW_ERROR, row.getRowNumber(), row.getError()));
+                        }
+                    } else if (namesInChunk.add(row.getPerson().getName()) && !model.hasPerson(row.getPerson())) {
+                        toAdd.add(row.getPerson());
+                    } else {
+                        duplicateCount++;
+                    }
+                }
+                // Contacts of earlier chunks are in the address book by now, so they are skipped as duplicates
+                if (!toAdd.isEmpty()) {
+                    model.batch(book -> book.addPersons(toAdd));
+                }
+                rowCount += chunk.size();
+                importedCount += toAdd.size();
+
+                int rowsRead = rowCount;
+                int rowsImported = importedCount;
+                logger.fine(() -> String.format("Import of %s: %d rows read, %d contacts imported",
+                        file, rowsRead, rowsImported));
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, file, e.getMessage(), importedCount), e);
+        }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
+
+        double seconds = (System.nanoTime() - startTime) / 1e9;
+        double rowsPerSecond = seconds > 0 ? rowCount / seconds : 0;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, importedCount, rowCount, file, seconds, rowsPerSecond)
+                + "\n" + String.format(MESSAGE_SKIPPED, duplicateCount, errorCount)
+                + formatErrors(shownErrors, errorCount));
+    }
+
+    /**
+     * Lists {@code shownErrors}, one per line, and how many of the {@code errorCount} errors were left out.
+     */
+    private static String formatErrors(List<String> shownErrors, int errorCount) {
+        StringBuilder builder = new StringBuilder();
+        shownErrors.forEach(error -> builder.append('\n').append(error));
+        if (errorCount > shownErrors.size()) {
+            builder.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errorCount - shownErrors.size()));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand otherImportCommand)) {
+            return false;
+        }
+
+        return file.equals(otherImportCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("file", file)
+                .toString();
+    }
+}
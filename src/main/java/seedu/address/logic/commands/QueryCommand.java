@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.query.PersonMatchesQueryPredicate;
+
+/**
+ * Finds and lists all persons in address book that match a boolean query over their fields.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons matching the specified query "
+            + "and displays them as a list with index numbers.\n"
+            + "A query combines terms with AND, OR, NOT and parentheses. Terms are name:WORD, tag:TAG, "
+            + "country:COUNTRY, organisation:ORGANISATION, language:LANGUAGE, channel:CHANNEL, offset:OFFSET, "
+            + "addedon:YYYY-MM-DD (or addedon< and addedon>) and archived. "
+            + "Values with spaces are quoted.\n"
+            + "Parameters: QUERY\n"
+            + "Example: " + COMMAND_WORD + " tag:vip AND (country:Japan OR country:\"South Korea\") AND NOT archived";
+
+    private final PersonMatchesQueryPredicate predicate;
+
+    /**
+     * Creates a QueryCommand to filter the person list using the given {@code predicate}.
+     */
+    public QueryCommand(PersonMatchesQueryPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return predicate.equals(otherQueryCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNTRY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGANISATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.person.PersonMatchesPrefixesPredicate;
+
+/**
+ * Finds and lists all persons in address book with a name word, tag, organisation or country that starts
+ * with any of the given prefixes.
+ * Prefix matching is case-insensitive.
+ */
+public class SearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons with a name word that starts "
+            + "with any of the specified prefixes (case-insensitive), or with a tag, organisation or country "
+            + "that starts with the given prefixes, and displays them as a list with index numbers.\n"
+            + "Parameters: [PREFIX]... "
+            + "[" + PREFIX_TAG + "PREFIX]... "
+            + "[" + PREFIX_ORGANISATION + "PREFIX]... "
+            + "[" + PREFIX_COUNTRY + "PREFIX]...\n"
+            + "Example: " + COMMAND_WORD + " ali jo " + PREFIX_TAG + "fri";
+
+    private final PersonMatchesPrefixesPredicate predicate;
+
+    /**
+     * Creates a SearchCommand to filter the person list using the given {@code predicate}.
+     */
+    public SearchCommand(PersonMatchesPrefixesPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        model.updateFilteredPersonList(predicate);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SearchCommand)) {
+            return false;
+        }
+
+        SearchCommand otherSearchCommand = (SearchCommand) other;
+        return predicate.equals(otherSearchCommand.predicate);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("predicate", predicate)
+                .toString();
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Adds tags to the selected persons in the displayed person list.
+ */
+public class TagCommand extends Command {
+
+    public static final String COMMAND_WORD = "tag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the given tags to the persons identified by the index numbers used in the displayed "
+            + "person list.\n"
+            + "Parameters: INDEXES (positive integers or ranges, separated by commas, or "
+            + ParserUtil.SELECT_ALL + ") "
+            + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " 1-5,8 " + PREFIX_TAG + "friends " + PREFIX_TAG + "colleagues";
+
+    public static final String MESSAGE_TAG_SUCCESS = "Tagged %1$d persons with %2$s";
+    public static final String MESSAGE_ALREADY_TAGGED = "All selected persons already have these tags";
+
+    private final IndexSelection targets;
+    private final Set<Tag> tags;
+
+    /**
+     * Creates a TagCommand to add {@code tags} to the persons selected by {@code targets}.
+     */
+    public TagCommand(IndexSelection targets, Set<Tag> tags) {
+        requireAllNonNull(targets, tags);
+        this.targets = targets;
+        this.tags = new HashSet<>(tags);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> personsToTag = selectPersons(model, targets).stream()
+                .filter(person -> !person.getTags().containsAll(tags))
+                .collect(Collectors.toList());
+
+        if (personsToTag.isEmpty()) {
+            throw new CommandException(MESSAGE_ALREADY_TAGGED);
+        }
+
+        model.batch(book -> personsToTag.forEach(person -> {
+            Set<Tag> updatedTags = new HashSet<>(person.getTags());
+            updatedTags.addAll(tags);
+            book.setPerson(person, person.withTags(updatedTags));
+        }));
+
+        return new CommandResult(String.format(MESSAGE_TAG_SUCCESS, personsToTag.size(), formatTags(tags)));
+    }
+
+    /**
+     * Lists {@code tags} in a stable order for display.
+     */
+    static String formatTags(Set<Tag> tags) {
+        return tags.stream()
+                .map(Tag::toString)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagCommand otherTagCommand)) {
+            return false;
+        }
+
+        return targets.equals(otherTagCommand.targets) && tags.equals(otherTagCommand.tags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targets", targets)
+                .add("tags", tags)
+                .toString();
+    }
+}
@@ -6,91 +6,91 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ARCHIVED;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_UNARCHIVED;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Unarchives a person in the current list.
+ * Unarchives the selected persons in the current list.
  */
 public class UnarchiveCommand extends Command {
 
     public static final String COMMAND_WORD = "unarchive";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unarchives the specified person. "
-            + "Parameters: index: <index>\n"
-            + "Example: " + COMMAND_WORD
-            + " 1";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Unarchives the specified persons. "
+            + "Parameters: INDEXES (positive integers or ranges, separated by commas, or "
+            + ParserUtil.SELECT_ALL + ")\n"
+            + "Example: " + COMMAND_WORD + " 1, " + COMMAND_WORD + " 1-500";
 
     public static final String MESSAGE_UNARCHIVE_SUCCESS = "%s has been unarchived";
     public static final String MESSAGE_ALREADY_UNARCHIVED = "%s is already unarchived";
+    public static final String MESSAGE_UNARCHIVE_PERSONS_SUCCESS =
+            "%1$d persons have been unarchived (%2$d were already unarchived)";
+    public static final String MESSAGE_ALL_ALREADY_UNARCHIVED = "All selected persons are already unarchived";
 
-    private final Index index;
+    private final IndexSelection targets;
 
     /**
      * Creates an UnarchiveCommand that unarchives the person.
      */
     public UnarchiveCommand(Index index) {
-        requireAllNonNull(index);
-        this.index = index;
+        this(IndexSelection.of(index));
+    }
+
+    /**
+     * Creates an UnarchiveCommand to unarchive the persons selected by {@code targets}.
+     */
+    public UnarchiveCommand(IndexSelection targets) {
+        requireAllNonNull(targets);
+        this.targets = targets;
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Person> lastShownList = model.getFilteredPersonList();
-
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        List<Person> selectedPersons = selectPersons(model, targets);
+        List<Person> personsToUnarchive = selectedPersons.stream()
+                .filter(Person::getArchivalStatus)
+                .collect(Collectors.toList());
+
+        if (personsToUnarchive.isEmpty()) {
+            throw new CommandException(selectedPersons.size() == 1
+                    ? String.format(MESSAGE_ALREADY_UNARCHIVED, selectedPersons.get(0).getName())
+                    : MESSAGE_ALL_ALREADY_UNARCHIVED);
         }
 
-        Person personToUnarchive = lastShownList.get(index.getZeroBased());
-
-        if (!personToUnarchive.getArchivalStatus()) {
-            throw new CommandException(String.format(MESSAGE_ALREADY_UNARCHIVED, personToUnarchive.getName()));
+        model.batch(book -> personsToUnarchive.forEach(person ->
+                book.setPerson(person, person.withArchivalStatus(false))));
+        if (model.checkListSize() > 0) {
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_ARCHIVED);
         } else {
-            Person archivedPerson = new Person(
-                    personToUnarchive.getName(),
-                    personToUnarchive.getPhone(),
-                    personToUnarchive.getEmail(),
-                    personToUnarchive.getAddress(),
-                    personToUnarchive.getCountry(),
-                    personToUnarchive.getOrganisation(),
-                    personToUnarchive.getEvent(),
-                    personToUnarchive.getNote(),
-                    personToUnarchive.getTags(),
-                    personToUnarchive.getOffset(),
-                    personToUnarchive.getPreferredLanguage(),
-                    personToUnarchive.getAddedOn(),
-                    false);
-
-            model.setPerson(personToUnarchive, archivedPerson);
-
-            if (model.checkListSize() > 0) {
-                model.updateFilteredPersonList(PREDICATE_SHOW_ALL_ARCHIVED);
-            } else {
-                model.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
-            }
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
         }
 
-        return new CommandResult(String.format(MESSAGE_UNARCHIVE_SUCCESS, personToUnarchive.getName()));
+        if (selectedPersons.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_UNARCHIVE_SUCCESS, selectedPersons.get(0).getName()));
+        }
+        return new CommandResult(String.format(MESSAGE_UNARCHIVE_PERSONS_SUCCESS, personsToUnarchive.size(),
+                selectedPersons.size() - personsToUnarchive.size()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this
                 || (other instanceof UnarchiveCommand)
-                        && index.equals(((UnarchiveCommand) other).index);
+                        && targets.equals(((UnarchiveCommand) other).targets);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("index", index)
+                .add("targets", targets)
                 .toString();
     }
 }
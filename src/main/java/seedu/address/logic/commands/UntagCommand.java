@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Removes tags from the selected persons in the displayed person list.
+ */
+public class UntagCommand extends Command {
+
+    public static final String COMMAND_WORD = "untag";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Removes the given tags from the persons identified by the index numbers used in the displayed "
+            + "person list.\n"
+            + "Parameters: INDEXES (positive integers or ranges, separated by commas, or "
+            + ParserUtil.SELECT_ALL + ") "
+            + PREFIX_TAG + "TAG [" + PREFIX_TAG + "TAG]...\n"
+            + "Example: " + COMMAND_WORD + " " + ParserUtil.SELECT_ALL + " " + PREFIX_TAG + "friends";
+
+    public static final String MESSAGE_UNTAG_SUCCESS = "Removed %2$s from %1$d persons";
+    public static final String MESSAGE_NOT_TAGGED = "None of the selected persons have these tags";
+
+    private final IndexSelection targets;
+    private final Set<Tag> tags;
+
+    /**
+     * Creates an UntagCommand to remove {@code tags} from the persons selected by {@code targets}.
+     */
+    public UntagCommand(IndexSelection targets, Set<Tag> tags) {
+        requireAllNonNull(targets, tags);
+        this.targets = targets;
+        this.tags = new HashSet<>(tags);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> personsToUntag = selectPersons(model, targets).stream()
+                .filter(person -> !Collections.disjoint(person.getTags(), tags))
+                .collect(Collectors.toList());
+
+        if (personsToUntag.isEmpty()) {
+            throw new CommandException(MESSAGE_NOT_TAGGED);
+        }
+
+        model.batch(book -> personsToUntag.forEach(person -> {
+            Set<Tag> updatedTags = new HashSet<>(person.getTags());
+            updatedTags.removeAll(tags);
+            book.setPerson(person, person.withTags(updatedTags));
+        }));
+
+        return new CommandResult(String.format(MESSAGE_UNTAG_SUCCESS, personsToUntag.size(),
+                TagCommand.formatTags(tags)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof UntagCommand otherUntagCommand)) {
+            return false;
+        }
+
+        return targets.equals(otherUntagCommand.targets) && tags.equals(otherUntagCommand.tags);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("targets", targets)
+                .add("tags", tags)
+                .toString();
+    }
+}
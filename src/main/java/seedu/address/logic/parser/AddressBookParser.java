@@ -18,14 +18,21 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCountryCommand;
+import seedu.address.logic.commands.FindFuzzyCommand;
+import seedu.address.logic.commands.FindLooseCommand;
 import seedu.address.logic.commands.FindOrganisationCommand;
 import seedu.address.logic.commands.FindTagCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.SortCountryCommand;
 import seedu.address.logic.commands.SortDateCommand;
 import seedu.address.logic.commands.SortNameCommand;
+import seedu.address.logic.commands.TagCommand;
 import seedu.address.logic.commands.UnarchiveCommand;
+import seedu.address.logic.commands.UntagCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -67,6 +74,10 @@ public class AddressBookParser {
         case DeleteCommand.COMMAND_WORD -> new DeleteCommandParser().parse(arguments);
         case ClearCommand.COMMAND_WORD -> new ClearCommand();
         case FindCommand.COMMAND_WORD -> new FindCommandParser().parse(arguments);
+        case SearchCommand.COMMAND_WORD -> new SearchCommandParser().parse(arguments);
+        case FindFuzzyCommand.COMMAND_WORD -> new FindFuzzyCommandParser().parse(arguments);
+        case FindLooseCommand.COMMAND_WORD -> new FindLooseCommandParser().parse(arguments);
+        case QueryCommand.COMMAND_WORD -> new QueryCommandParser().parse(arguments);
         case ListCommand.COMMAND_WORD -> new ListCommand();
         case ExitCommand.COMMAND_WORD -> new ExitCommand();
         case HelpCommand.COMMAND_WORD -> new HelpCommand();
@@ -79,6 +90,9 @@ public class AddressBookParser {
         case SortCountryCommand.COMMAND_WORD -> new SortCountryCommand();
         case SortNameCommand.COMMAND_WORD -> new SortNameCommand();
         case SortDateCommand.COMMAND_WORD -> new SortDateCommand();
+        case ImportCommand.COMMAND_WORD -> new ImportCommandParser().parse(arguments);
+        case TagCommand.COMMAND_WORD -> new TagCommandParser().parse(arguments);
+        case UntagCommand.COMMAND_WORD -> new UntagCommandParser().parse(arguments);
 
         default -> {
             logger.finer("This user input caused a ParseException: " + userInput);
@@ -26,7 +26,7 @@ public class FindCountryCommandParser implements Parser<FindCountryCommand> {
         }
         Country country;
         try {
-            country = new Country(countryInput);
+            country = Country.of(countryInput);
         } catch (IllegalArgumentException e) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCountryCommand.MESSAGE_USAGE));
@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.FindFuzzyCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NameFuzzyMatchesPredicate;
+
+/**
+ * Parses input arguments and creates a new FindFuzzyCommand object
+ */
+public class FindFuzzyCommandParser implements Parser<FindFuzzyCommand> {
+
+    public static final String MESSAGE_INVALID_MAX_EDITS = "The number of edits must be from 0 to "
+            + FindFuzzyCommand.MAX_EDITS_LIMIT + ".";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindFuzzyCommand
+     * and returns a FindFuzzyCommand object for execution.
+     * A trailing number after at least one word is read as the number of edits allowed.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindFuzzyCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFuzzyCommand.MESSAGE_USAGE));
+        }
+
+        List<String> words = Arrays.asList(trimmedArgs.split("\\s+"));
+        int maxEdits = FindFuzzyCommand.DEFAULT_MAX_EDITS;
+        String lastWord = words.get(words.size() - 1);
+        if (words.size() > 1 && lastWord.matches("\\d+")) {
+            maxEdits = parseMaxEdits(lastWord);
+            words = words.subList(0, words.size() - 1);
+        }
+
+        return new FindFuzzyCommand(new NameFuzzyMatchesPredicate(words, maxEdits));
+    }
+
+    private static int parseMaxEdits(String maxEdits) throws ParseException {
+        try {
+            int edits = Integer.parseInt(maxEdits);
+            if (edits > FindFuzzyCommand.MAX_EDITS_LIMIT) {
+                throw new ParseException(MESSAGE_INVALID_MAX_EDITS);
+            }
+            return edits;
+        } catch (NumberFormatException e) {
+            throw new ParseException(MESSAGE_INVALID_MAX_EDITS, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGANISATION;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.FindLooseCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonMatchesLooselyPredicate;
+
+/**
+ * Parses input arguments and creates a new FindLooseCommand object
+ */
+public class FindLooseCommandParser implements Parser<FindLooseCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindLooseCommand
+     * and returns a FindLooseCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindLooseCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_ORGANISATION);
+        String preamble = argMultimap.getPreamble().trim();
+        List<String> nameKeywords = preamble.isEmpty() ? List.of() : Arrays.asList(preamble.split("\\s+"));
+        List<String> organisations = argMultimap.getAllValues(PREFIX_ORGANISATION).stream()
+                .map(String::trim)
+                .toList();
+
+        if ((nameKeywords.isEmpty() && organisations.isEmpty())
+                || organisations.stream().anyMatch(String::isEmpty)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLooseCommand.MESSAGE_USAGE));
+        }
+
+        return new FindLooseCommand(new PersonMatchesLooselyPredicate(nameKeywords, organisations));
+    }
+}
@@ -40,7 +40,7 @@ public class FindTagCommandParser implements Parser<FindTagCommand> {
                 throw new ParseException(
                         String.format(e.getMessage()));
             }
-            tagList.add(new Tag(s));
+            tagList.add(Tag.of(s));
         }
 
         return new FindTagCommand(new PersonContainsTagsPredicate(tagList));
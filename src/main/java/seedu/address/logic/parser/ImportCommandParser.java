@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.ContactFileReader;
+
+/**
+ * Parses input arguments and creates a new ImportCommand object
+ */
+public class ImportCommandParser implements Parser<ImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportCommand
+     * and returns an ImportCommand object for execution.
+     * The file named by the arguments is only checked to exist; it is read when the command is executed.
+     * @throws ParseException if the user input does not conform the expected format, or the file does not exist
+     */
+    public ImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+        }
+
+        Path file;
+        try {
+            file = Path.of(trimmedArgs);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE), ipe);
+        }
+        if (!ContactFileReader.isSupported(file)) {
+            throw new ParseException(ContactFileReader.MESSAGE_UNSUPPORTED_FORMAT);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new ParseException(String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+        }
+        return new ImportCommand(file);
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
@@ -27,7 +28,12 @@ import seedu.address.model.tag.Tag;
  */
 public class ParserUtil {
 
+    /** Selects every person in the displayed list. */
+    public static final String SELECT_ALL = "all";
+
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_SELECTION = "Indexes should be non-zero unsigned integers "
+            + "or ranges such as 2-5, separated by commas, or \"" + SELECT_ALL + "\".";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading
@@ -45,6 +51,50 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code selection} into an {@code IndexSelection} and returns it. The selection is either
+     * {@value #SELECT_ALL}, or a comma-separated list of one-based indexes and inclusive index ranges,
+     * e.g. {@code 1-5,8}. Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code selection} is invalid.
+     */
+    public static IndexSelection parseIndexSelection(String selection) throws ParseException {
+        requireNonNull(selection);
+        String trimmedSelection = selection.trim();
+        if (trimmedSelection.equalsIgnoreCase(SELECT_ALL)) {
+            return IndexSelection.ALL;
+        }
+
+        IndexSelection indexSelection = null;
+        for (String part : trimmedSelection.split(",", -1)) {
+            IndexSelection partSelection = parseIndexRange(part);
+            indexSelection = indexSelection == null ? partSelection : indexSelection.union(partSelection);
+        }
+        return indexSelection;
+    }
+
+    /**
+     * Parses a single index, or a range of indexes such as {@code 2-5}, into an {@code IndexSelection}.
+     */
+    private static IndexSelection parseIndexRange(String range) throws ParseException {
+        String[] bounds = range.split("-", -1);
+        try {
+            if (bounds.length == 1) {
+                return IndexSelection.of(parseIndex(bounds[0]));
+            }
+            if (bounds.length == 2) {
+                Index first = parseIndex(bounds[0]);
+                Index last = parseIndex(bounds[1]);
+                if (last.getZeroBased() >= first.getZeroBased()) {
+                    return IndexSelection.ofRange(first, last);
+                }
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_SELECTION, pe);
+        }
+        throw new ParseException(MESSAGE_INVALID_INDEX_SELECTION);
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -116,7 +166,7 @@ public class ParserUtil {
             throw new ParseException("Organisation cannot be null");
         }
 
-        return new Organisation(org.trim());
+        return Organisation.of(org.trim());
     }
 
     /**
@@ -161,7 +211,7 @@ public class ParserUtil {
         if (!Country.isValidCountry(trimmedCountry)) {
             throw new ParseException(Country.MESSAGE_CONSTRAINTS);
         }
-        return new Country(trimmedCountry);
+        return Country.of(trimmedCountry);
     }
 
     /**
@@ -176,7 +226,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -204,7 +254,7 @@ public class ParserUtil {
             throw new ParseException(String.format("Invalid Offset format: " + Offset.MESSAGE_CONSTRAINTS));
         }
         try {
-            return new Offset(trimmedInput);
+            return Offset.of(trimmedInput);
         } catch (IllegalArgumentException e) {
             throw new ParseException(e.getMessage());
         }
@@ -217,7 +267,7 @@ public class ParserUtil {
      * @throws ParseException if the given {@code language} is invalid.
      */
     public static PreferredLanguage parsePreferredLanguage(String language) {
-        return new PreferredLanguage(language.trim());
+        return PreferredLanguage.of(language.trim());
     }
 
 }
@@ -0,0 +1,229 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person.CommunicationChannel;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.person.query.PersonMatchesQueryPredicate;
+import seedu.address.model.person.query.PersonQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ *
+ * A query is parsed with the grammar below, where {@code AND} binds tighter than {@code OR}, {@code NOT} binds
+ * tighter than both, and terms next to each other are joined by {@code AND}. Operators are case-insensitive.
+ * <pre>
+ *     query := and ("OR" and)*
+ *     and   := not ("AND"? not)*
+ *     not   := "NOT" not | "(" query ")" | term
+ * </pre>
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_INVALID_TERM = "Query terms must be FIELD:VALUE or archived, but found: %1$s";
+    public static final String MESSAGE_UNKNOWN_FIELD = "Unknown query field: %1$s. Fields are name, tag, country, "
+            + "organisation, language, channel, offset and addedon.";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Unterminated quote in query.";
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "Unbalanced parentheses in query.";
+    public static final String MESSAGE_INVALID_CHANNEL = "Invalid communication channel: %1$s";
+    public static final String MESSAGE_INVALID_DATE = "Dates must be given as YYYY-MM-DD, but found: %1$s";
+
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+
+        PersonQuery query = parseOr();
+        if (position < tokens.size()) {
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        return new QueryCommand(new PersonMatchesQueryPredicate(query));
+    }
+
+    /**
+     * Splits {@code args} into parentheses and words. A double-quoted part of a word may contain spaces and
+     * parentheses, and is kept without its quotes.
+     */
+    private static List<String> tokenize(String args) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < args.length()) {
+            char c = args.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else {
+                StringBuilder word = new StringBuilder();
+                while (i < args.length() && !Character.isWhitespace(args.charAt(i))
+                        && args.charAt(i) != '(' && args.charAt(i) != ')') {
+                    if (args.charAt(i) == '"') {
+                        int closingQuote = args.indexOf('"', i + 1);
+                        if (closingQuote < 0) {
+                            throw new ParseException(MESSAGE_UNTERMINATED_QUOTE);
+                        }
+                        word.append(args, i + 1, closingQuote);
+                        i = closingQuote + 1;
+                    } else {
+                        word.append(args.charAt(i++));
+                    }
+                }
+                tokens.add(word.toString());
+            }
+        }
+        return tokens;
+    }
+
+    private PersonQuery parseOr() throws ParseException {
+        List<PersonQuery> alternatives = new ArrayList<>();
+        alternatives.add(parseAnd());
+        while (isNext("OR")) {
+            position++;
+            alternatives.add(parseAnd());
+        }
+        return PersonQuery.or(alternatives);
+    }
+
+    private PersonQuery parseAnd() throws ParseException {
+        List<PersonQuery> conditions = new ArrayList<>();
+        conditions.add(parseNot());
+        while (position < tokens.size() && !isNext("OR") && !isNext(CLOSE)) {
+            if (isNext("AND")) {
+                position++;
+            }
+            conditions.add(parseNot());
+        }
+        return PersonQuery.and(conditions);
+    }
+
+    private PersonQuery parseNot() throws ParseException {
+        if (position == tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        String token = tokens.get(position++);
+        if (token.equalsIgnoreCase("NOT")) {
+            return PersonQuery.not(parseNot());
+        }
+        if (token.equals(OPEN)) {
+            PersonQuery query = parseOr();
+            if (!isNext(CLOSE)) {
+                throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+            }
+            position++;
+            return query;
+        }
+        if (token.equals(CLOSE)) {
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        if (token.equalsIgnoreCase("AND") || token.equalsIgnoreCase("OR")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+        }
+        return parseTerm(token);
+    }
+
+    private boolean isNext(String token) {
+        return position < tokens.size() && tokens.get(position).equalsIgnoreCase(token);
+    }
+
+    /**
+     * Parses a single term such as {@code tag:vip} or {@code addedon<2024-01-01}.
+     */
+    private static PersonQuery parseTerm(String term) throws ParseException {
+        if (term.equalsIgnoreCase("archived")) {
+            return PersonQuery.archived();
+        }
+
+        int operatorIndex = indexOfOperator(term);
+        if (operatorIndex <= 0 || term.substring(operatorIndex + 1).isBlank()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_TERM, term));
+        }
+        String field = term.substring(0, operatorIndex).toLowerCase(Locale.ROOT);
+        char operator = term.charAt(operatorIndex);
+        String value = term.substring(operatorIndex + 1).trim();
+
+        if (field.equals("addedon")) {
+            LocalDate date = parseDate(value);
+            return operator == '<' ? PersonQuery.addedBefore(date)
+                    : operator == '>' ? PersonQuery.addedAfter(date)
+                    : PersonQuery.addedOn(date);
+        }
+        if (operator != ':') {
+            throw new ParseException(String.format(MESSAGE_INVALID_TERM, term));
+        }
+
+        switch (field) {
+        case "name":
+            List<PersonQuery> words = new ArrayList<>();
+            for (String word : value.split("\\s+")) {
+                words.add(PersonQuery.nameWord(word));
+            }
+            return PersonQuery.and(words);
+        case "tag":
+            return PersonQuery.tag(ParserUtil.parseTag(value));
+        case "country":
+            return PersonQuery.country(ParserUtil.parseCountry(value));
+        case "org":
+        case "organisation":
+            return PersonQuery.organisation(value);
+        case "language":
+            try {
+                return PersonQuery.language(PreferredLanguage.of(value));
+            } catch (IllegalArgumentException e) {
+                throw new ParseException("Invalid language: " + e.getMessage());
+            }
+        case "channel":
+            try {
+                return PersonQuery.channel(CommunicationChannel.valueOf(value.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new ParseException(String.format(MESSAGE_INVALID_CHANNEL, value));
+            }
+        case "offset":
+            return PersonQuery.offset(ParserUtil.parseOffset(value));
+        default:
+            throw new ParseException(String.format(MESSAGE_UNKNOWN_FIELD, field));
+        }
+    }
+
+    /**
+     * Returns the index of the first {@code :}, {@code <} or {@code >} in {@code term}, or -1 if there is none.
+     */
+    private static int indexOfOperator(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            char c = term.charAt(i);
+            if (c == ':' || c == '<' || c == '>') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static LocalDate parseDate(String value) throws ParseException {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_DATE, value));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNTRY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ORGANISATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.PersonMatchesPrefixesPredicate;
+
+/**
+ * Parses input arguments and creates a new SearchCommand object
+ */
+public class SearchCommandParser implements Parser<SearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCommand
+     * and returns a SearchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG, PREFIX_ORGANISATION,
+                PREFIX_COUNTRY);
+        String preamble = argMultimap.getPreamble().trim();
+        List<String> namePrefixes = preamble.isEmpty() ? List.of() : Arrays.asList(preamble.split("\\s+"));
+        List<String> tagPrefixes = parsePrefixes(argMultimap.getAllValues(PREFIX_TAG));
+        List<String> organisationPrefixes = parsePrefixes(argMultimap.getAllValues(PREFIX_ORGANISATION));
+        List<String> countryPrefixes = parsePrefixes(argMultimap.getAllValues(PREFIX_COUNTRY));
+
+        if (namePrefixes.isEmpty() && tagPrefixes.isEmpty() && organisationPrefixes.isEmpty()
+                && countryPrefixes.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+
+        return new SearchCommand(
+                new PersonMatchesPrefixesPredicate(namePrefixes, tagPrefixes, organisationPrefixes, countryPrefixes));
+    }
+
+    /**
+     * Trims each of {@code values}, which must not be blank.
+     */
+    private static List<String> parsePrefixes(List<String> values) throws ParseException {
+        List<String> prefixes = values.stream().map(String::trim).toList();
+        if (prefixes.stream().anyMatch(String::isEmpty)) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+        return prefixes;
+    }
+}
@@ -3,7 +3,7 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.commands.UnarchiveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -11,7 +11,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Parses input arguments and creates a new {@code UnarchiveCommand} object.
  *
  * <p>
- * Expected format: {@code unarchive index: &lt;name&gt;} // TO CHANGE
+ * Expected format: {@code unarchive INDEXES}, e.g. {@code unarchive 1-5,8} or {@code unarchive all}
  * </p>
  */
 public class UnarchiveCommandParser implements Parser<UnarchiveCommand> {
@@ -19,12 +19,11 @@ public class UnarchiveCommandParser implements Parser<UnarchiveCommand> {
     @Override
     public UnarchiveCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        Index index;
+        IndexSelection targets;
 
         try {
-            index = ParserUtil.parseIndex(args.trim());
-            requireNonNull(index);
-            return new UnarchiveCommand(index);
+            targets = ParserUtil.parseIndexSelection(args);
+            return new UnarchiveCommand(targets);
         } catch (ParseException e) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnarchiveCommand.MESSAGE_USAGE));
         }
@@ -3,19 +3,25 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FilterResultCache;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeLog;
+import seedu.address.model.person.PersonIndexes;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.UniquePersonList.Partition;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
  */
-public class AddressBook implements ReadOnlyAddressBook {
+public class AddressBook implements ReadOnlyAddressBook, MutableBook {
 
     private final UniquePersonList persons;
+    private boolean hasAllArchivedPersons = true;
 
     /*
      * The 'unusual' code block below is a non-static initialization block,
@@ -59,6 +65,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(newData);
 
         setPersons(newData.getPersonList());
+        hasAllArchivedPersons = newData.hasAllArchivedPersons();
     }
 
     //// person-level operations
@@ -67,6 +74,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Returns true if a person with the same identity as {@code person} exists in
      * the address book.
      */
+    @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return persons.contains(person);
@@ -76,10 +84,20 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
+    @Override
     public void addPerson(Person p) {
         persons.add(p);
     }
 
+    /**
+     * Adds all of {@code persons} to the address book.
+     * None of them may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    @Override
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with
      * {@code editedPerson}.
@@ -87,6 +105,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The person identity of {@code editedPerson} must not be the same as another
      * existing person in the address book.
      */
+    @Override
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
 
@@ -97,31 +116,54 @@ public class AddressBook implements ReadOnlyAddressBook {
      * Removes {@code key} from this {@code AddressBook}.
      * {@code key} must exist in the address book.
      */
+    @Override
     public void removePerson(Person key) {
         persons.remove(key);
     }
 
     /**
-     * Sorts the persons list by country.
+     * Orders the persons list by country.
+     * All orderings are maintained as persons change, so this does not re-sort.
      */
+    @Override
     public void sortByCountry() {
         persons.sortByCountry();
     }
 
     /**
-     * Sorts the persons list by name.
+     * Orders the persons list by name.
+     * All orderings are maintained as persons change, so this does not re-sort.
      */
+    @Override
     public void sortByName() {
         persons.sortByName();
     }
 
     /**
-     * Sorts the persons list by date added.
+     * Orders the persons list by date added.
+     * All orderings are maintained as persons change, so this does not re-sort.
      */
+    @Override
     public void sortByDate() {
         persons.sortByDate();
     }
 
+    /**
+     * Applies {@code changes} to this address book as a single batch.
+     * The person list reports all of the batch's changes as one change once {@code changes} returns,
+     * so observers such as filtered views and the UI refresh once per batch rather than once per change.
+     * Changes made before an exception is thrown out of {@code changes} are kept and still reported.
+     */
+    public void batch(Consumer<? super MutableBook> changes) {
+        requireNonNull(changes);
+        persons.beginBatch();
+        try {
+            changes.accept(this);
+        } finally {
+            persons.endBatch();
+        }
+    }
+
     //// util methods
 
     @Override
@@ -136,6 +178,58 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public boolean hasAllArchivedPersons() {
+        return hasAllArchivedPersons;
+    }
+
+    /**
+     * Records whether the person list has every archived person, or some are still to be loaded.
+     */
+    public void setHasAllArchivedPersons(boolean hasAllArchivedPersons) {
+        this.hasAllArchivedPersons = hasAllArchivedPersons;
+    }
+
+    /**
+     * Returns the secondary indexes over the persons in the address book.
+     */
+    public PersonIndexes getIndexes() {
+        return persons.getIndexes();
+    }
+
+    /**
+     * Returns a count that grows with every change to the persons in the address book, but not with sorting.
+     */
+    public long getModificationCount() {
+        return persons.getModificationCount();
+    }
+
+    @Override
+    public PersonChangeLog getChangeLog() {
+        return persons.getChangeLog();
+    }
+
+    /**
+     * Returns the remembered results of the predicates the address book was recently filtered by.
+     */
+    public FilterResultCache getFilterResults() {
+        return persons.getFilterResults();
+    }
+
+    /**
+     * Returns the persons of the shown partition, kept in step with the person list.
+     */
+    public ObservableList<Person> getShownPersonList() {
+        return persons.asUnmodifiableShownList();
+    }
+
+    /**
+     * Shows the persons of {@code partition} in the list returned by {@link #getShownPersonList()}.
+     */
+    public void showPartition(Partition partition) {
+        persons.showPartition(partition);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -59,6 +60,13 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns a count that grows with every change to the persons in the address book.
+     * Commands that only filter or sort the persons leave it unchanged, so there is nothing new to save
+     * while it stays the same.
+     */
+    long getAddressBookModificationCount();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in
      * the address book.
@@ -85,7 +93,17 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
-    /** Returns an unmodifiable view of the filtered person list */
+    /**
+     * Applies {@code changes} to the address book as a single batch, so that the filtered person list
+     * and its observers are updated once for the whole batch.
+     * Sorting inside the batch updates the current sorting mode as {@code sortPersonsBy...} would.
+     */
+    void batch(Consumer<? super MutableBook> changes);
+
+    /**
+     * Returns an unmodifiable view of the filtered person list.
+     * Persons matched by a {@code RankedPersonPredicate} are listed best match first.
+     */
     ObservableList<Person> getFilteredPersonList();
 
     /**
@@ -97,8 +115,9 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * After every modification to the contacts list, this command reapplies the
-     * current sorting mode.
+     * Re-sorts the contacts list by the current sorting mode.
+     * Modifications to the contacts list already keep it in this order, so this is
+     * only needed to force a full re-sort.
      */
     void reapplySortMode();
 
@@ -4,17 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.IndexedPersonPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.RankedPersonPredicate;
+import seedu.address.model.person.UniquePersonList.Partition;
 
 /**
  * Represents the in-memory model of the address book data.
+ * The archived persons may be loaded after the rest: they are then added the first time they are needed, which
+ * is when persons are checked for duplicates or the list is filtered by anything but the unarchived partition.
  */
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -22,8 +32,10 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> rankedPersons;
     private Predicate<Person> currentPersonListPredicate;
     private SortMode sortMode = SortMode.NAME;
+    private Future<List<Person>> pendingArchivedPersons;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,10 +47,25 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredList<>(this.addressBook.getShownPersonList());
+        rankedPersons = new SortedList<>(filteredPersons);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
     }
 
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, and the archived persons that
+     * {@code addressBook} does not have yet, which are being loaded by {@code archivedPersons}.
+     * {@code archivedPersons} is ignored if {@code addressBook} already has all its archived persons.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+            Future<List<Person>> archivedPersons) {
+        this(addressBook, userPrefs);
+        requireNonNull(archivedPersons);
+        if (!this.addressBook.hasAllArchivedPersons()) {
+            pendingArchivedPersons = archivedPersons;
+        }
+    }
+
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
@@ -95,8 +122,8 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        pendingArchivedPersons = null;
         this.addressBook.resetData(addressBook);
-        reapplySortMode();
     }
 
     @Override
@@ -104,30 +131,39 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookModificationCount() {
+        return addressBook.getModificationCount();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
+        loadArchivedPersons();
         return addressBook.hasPerson(person);
     }
 
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        reapplySortMode();
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
-        reapplySortMode();
     }
 
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
         addressBook.setPerson(target, editedPerson);
-        reapplySortMode();
+    }
+
+    @Override
+    public void batch(Consumer<? super MutableBook> changes) {
+        requireNonNull(changes);
+        addressBook.batch(book -> changes.accept(new SortTrackingBook(book)));
     }
 
     // =========== Filtered Person List Accessors
@@ -140,16 +176,98 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return rankedPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * The filtered list follows every change to the address book, so applying a predicate equal to the current
+     * one does nothing, other than ranking its matches again if sorting the persons dropped their ranking.
+     * The matches of recently applied predicates are remembered, so applying one of them again only looks the
+     * persons up in its result.
+     * The predicates that show all, all unarchived or all archived persons are not tested at all: the address book
+     * keeps those partitions apart, and the filtered list is switched to the partition instead.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate.equals(currentPersonListPredicate)) {
+            if (predicate instanceof RankedPersonPredicate rankedPredicate && rankedPersons.getComparator() == null) {
+                // A sort since the predicate was applied dropped the ranking of its matches
+                rankedPersons.setComparator(rankedPredicate.rankIn(addressBook.getIndexes()));
+            }
+            return;
+        }
+        if (predicate != PREDICATE_SHOW_ALL_UNARCHIVED) {
+            loadArchivedPersons();
+        }
+        Partition partition = partitionShownBy(predicate);
+        if (partition != null) {
+            // Drops the old predicate first, so that it is not tested against the new partition.
+            filteredPersons.setPredicate(null);
+            addressBook.showPartition(partition);
+        } else {
+            Predicate<Person> evaluator = predicate instanceof IndexedPersonPredicate indexedPredicate
+                    ? indexedPredicate.bindTo(addressBook.getIndexes())
+                    : predicate;
+            addressBook.showPartition(Partition.ALL);
+            filteredPersons.setPredicate(addressBook.getFilterResults().filterFor(predicate, evaluator));
+        }
+        rankedPersons.setComparator(predicate instanceof RankedPersonPredicate rankedPredicate
+                ? rankedPredicate.rankIn(addressBook.getIndexes())
+                : null);
         currentPersonListPredicate = predicate;
     }
 
+    /**
+     * Adds the archived persons that are still being loaded to the address book, waiting for them if needed.
+     * Persons archived in the meantime are already in the address book, so their loaded copies are skipped.
+     * If the archived persons cannot be loaded, the address book carries on without them, and is left marked as
+     * not having them all so that saving it keeps them in storage.
+     */
+    private void loadArchivedPersons() {
+        if (pendingArchivedPersons == null) {
+            return;
+        }
+        Future<List<Person>> archivedPersons = pendingArchivedPersons;
+        pendingArchivedPersons = null;
+
+        List<Person> loadedPersons;
+        try {
+            loadedPersons = archivedPersons.get();
+        } catch (ExecutionException e) {
+            logger.warning("Archived persons could not be loaded: " + e.getCause()
+                    + ". Will be continuing without them.");
+            return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while loading archived persons. Will be continuing without them.");
+            return;
+        }
+
+        addressBook.addPersons(loadedPersons.stream()
+                .filter(person -> !addressBook.hasPerson(person))
+                .toList());
+        addressBook.setHasAllArchivedPersons(true);
+        logger.info("Loaded " + loadedPersons.size() + " archived persons.");
+    }
+
+    /**
+     * Returns the partition of the address book that consists of exactly the persons matching {@code predicate},
+     * or null if {@code predicate} is not one of the predicates that show a whole partition.
+     */
+    private static Partition partitionShownBy(Predicate<Person> predicate) {
+        if (predicate == PREDICATE_SHOW_ALL_UNARCHIVED) {
+            return Partition.UNARCHIVED;
+        } else if (predicate == PREDICATE_SHOW_ALL_ARCHIVED) {
+            return Partition.ARCHIVED;
+        } else if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            return Partition.ALL;
+        } else {
+            return null;
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -164,7 +282,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && rankedPersons.equals(otherModelManager.rankedPersons);
     }
 
     @Override
@@ -183,8 +301,10 @@ public class ModelManager implements Model {
     }
 
     /**
-     * Generic sorting helper that sorts the AddressBook according to the given SortMode,
-     * updates the mode, and refreshes the filtered list.
+     * Generic sorting helper that switches the AddressBook to the ordering of the given SortMode
+     * and updates the mode.
+     * The filtered list follows the reordered persons with its current predicate, dropping any ranking
+     * of the matches made by the predicate.
      */
     private void sortPersons(SortMode mode) {
         switch (mode) {
@@ -194,10 +314,8 @@ public class ModelManager implements Model {
         default -> throw new IllegalArgumentException("Unknown sort mode: " + mode);
         }
 
+        rankedPersons.setComparator(null);
         setSortMode(mode);
-        Predicate<Person> currentPredicate = filteredPersons.getPredicate() != null
-                ? (Predicate<Person>) filteredPersons.getPredicate() : PREDICATE_SHOW_ALL_UNARCHIVED;
-        updateFilteredPersonList(currentPredicate);
     }
 
     @Override
@@ -207,7 +325,7 @@ public class ModelManager implements Model {
 
     @Override
     public int checkListSize() {
-        return filteredPersons.size();
+        return rankedPersons.size();
     }
 
     @Override
@@ -216,4 +334,61 @@ public class ModelManager implements Model {
                 ? currentPersonListPredicate
                 : PREDICATE_SHOW_ALL_UNARCHIVED;
     }
+
+    /**
+     * A {@code MutableBook} that forwards to the address book and keeps the current sorting mode
+     * in step with sorts made inside a batch.
+     */
+    private class SortTrackingBook implements MutableBook {
+        private final MutableBook book;
+
+        SortTrackingBook(MutableBook book) {
+            this.book = book;
+        }
+
+        @Override
+        public boolean hasPerson(Person person) {
+            loadArchivedPersons();
+            return book.hasPerson(person);
+        }
+
+        @Override
+        public void addPerson(Person person) {
+            book.addPerson(person);
+        }
+
+        @Override
+        public void addPersons(List<Person> persons) {
+            book.addPersons(persons);
+        }
+
+        @Override
+        public void setPerson(Person target, Person editedPerson) {
+            requireAllNonNull(target, editedPerson);
+            book.setPerson(target, editedPerson);
+        }
+
+        @Override
+        public void removePerson(Person key) {
+            book.removePerson(key);
+        }
+
+        @Override
+        public void sortByName() {
+            book.sortByName();
+            setSortMode(SortMode.NAME);
+        }
+
+        @Override
+        public void sortByCountry() {
+            book.sortByCountry();
+            setSortMode(SortMode.COUNTRY);
+        }
+
+        @Override
+        public void sortByDate() {
+            book.sortByDate();
+            setSortMode(SortMode.DATE);
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The person-level operations of an address book that can be grouped into one
+ * {@link AddressBook#batch(java.util.function.Consumer) batch}.
+ * Archiving or unarchiving a person is a {@link #setPerson(Person, Person)} with the re-archived copy.
+ */
+public interface MutableBook {
+
+    /**
+     * Returns true if a person with the same identity as {@code person} exists in the address book.
+     */
+    boolean hasPerson(Person person);
+
+    /**
+     * Adds a person to the address book.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Adds all of {@code persons} to the address book.
+     * None of them may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    void addPersons(List<Person> persons);
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the address book.
+     * The person identity of {@code editedPerson} must not be the same as another
+     * existing person in the address book.
+     */
+    void setPerson(Person target, Person editedPerson);
+
+    /**
+     * Removes {@code key} from the address book.
+     * {@code key} must exist in the address book.
+     */
+    void removePerson(Person key);
+
+    /**
+     * Orders the persons list by name.
+     */
+    void sortByName();
+
+    /**
+     * Orders the persons list by country.
+     */
+    void sortByCountry();
+
+    /**
+     * Orders the persons list by date added.
+     */
+    void sortByDate();
+}
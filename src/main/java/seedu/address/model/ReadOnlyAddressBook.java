@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeLog;
 
 /**
  * Unmodifiable view of an address book
@@ -14,4 +15,19 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns true if the persons list has every archived person. Archived persons stored apart may be missing
+     * while they are still being loaded, in which case only the persons archived since are in the list.
+     */
+    default boolean hasAllArchivedPersons() {
+        return true;
+    }
+
+    /**
+     * Returns the log of the recent changes to the persons list, as it is now, or null if changes are not logged.
+     */
+    default PersonChangeLog getChangeLog() {
+        return null;
+    }
+
 }
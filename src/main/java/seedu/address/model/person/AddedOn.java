@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
 
@@ -15,6 +16,14 @@ public class AddedOn implements Comparable<AddedOn> {
         this.localDateTime = localDateTime;
     }
 
+    /**
+     * Returns this date as milliseconds since the epoch, treating it as UTC.
+     * The result orders dates the same way as {@link #compareTo(AddedOn)}, up to millisecond precision.
+     */
+    public long toEpochMillis() {
+        return localDateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
     @Override
     public int compareTo(AddedOn other) {
         return this.localDateTime.compareTo(other.localDateTime);
@@ -5,11 +5,16 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Represents a Person's country in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidCountry(String)}
+ *
+ * There are only a few hundred countries, so {@link #of(String)} returns one shared instance per country,
+ * and equal countries created through it are the same instance.
  */
 public class Country {
 
@@ -37,6 +42,12 @@ public class Country {
         VALID_COUNTRY_NAMES.add("Côte d'Ivoire");
     }
 
+    /*
+     * Shared instances, by the trimmed and lower-cased name they were created from, which decides both
+     * whether a name is valid and the country it is normalized to.
+     */
+    private static final Map<String, Country> INTERNED = new ConcurrentHashMap<>();
+
     public final String value;
 
     /**
@@ -51,6 +62,16 @@ public class Country {
         this.value = normalizeCountryName(country);
     }
 
+    /**
+     * Returns the shared {@code Country} named {@code country}, ignoring case, creating it on first use.
+     *
+     * @param country A valid country.
+     */
+    public static Country of(String country) {
+        requireNonNull(country);
+        return INTERNED.computeIfAbsent(country.trim().toLowerCase(Locale.ROOT), unused -> new Country(country));
+    }
+
     /**
      * Normalizes the given country name to its canonical capitalized form.
      * For example, "singapore" → "Singapore", "united states" → "United States".
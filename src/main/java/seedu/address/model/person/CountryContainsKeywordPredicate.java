@@ -6,8 +6,9 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Country} matches the country given.
+ * Against an address book, the matches are the posting list of the country in its country index.
  */
-public class CountryContainsKeywordPredicate implements Predicate<Person> {
+public class CountryContainsKeywordPredicate implements IndexedPersonPredicate {
     private final Country country;
 
     public CountryContainsKeywordPredicate(Country country) {
@@ -19,6 +20,11 @@ public class CountryContainsKeywordPredicate implements Predicate<Person> {
         return this.country.equals(person.getCountry());
     }
 
+    @Override
+    public Predicate<Person> bindTo(PersonIndexes indexes) {
+        return indexes.foundBy(() -> indexes.withCountry(country));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -34,6 +40,11 @@ public class CountryContainsKeywordPredicate implements Predicate<Person> {
         return this.country.equals(otherCountryContainsKeywordPredicate.country);
     }
 
+    @Override
+    public int hashCode() {
+        return country.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("country", country).toString();
@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NavigableSet;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Levenshtein edit distances, where an edit inserts, deletes or replaces one character.
+ *
+ * Words within a distance of a query are found in a sorted set of words by walking it as if it were a trie:
+ * consecutive words share the rows of the distance table computed for their common prefix, and once every
+ * entry of a row exceeds the distance allowed, all words starting with that prefix are skipped with one lookup.
+ * Only the prefixes within reach of the query are visited, instead of every word.
+ */
+class EditDistance {
+
+    private EditDistance() {
+    }
+
+    /**
+     * Returns the edit distance between {@code first} and {@code second}.
+     */
+    static int between(String first, String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        firstRow(previous);
+        for (int i = 0; i < first.length(); i++) {
+            nextRow(previous, current, first.charAt(i), second);
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * Passes every word of {@code words} within {@code maxDistance} edits of {@code query} to {@code action},
+     * with its distance, in the order of {@code words}.
+     */
+    static void forEachWithin(NavigableSet<String> words, String query, int maxDistance,
+            ObjIntConsumer<String> action) {
+        // rows[i] holds the distances from the first i characters of the current word to each prefix of query
+        int[][] rows = new int[1][query.length() + 1];
+        firstRow(rows[0]);
+        String previousWord = "";
+        int validRows = 0;
+
+        Iterator<String> remaining = words.iterator();
+        String word = remaining.hasNext() ? remaining.next() : null;
+        while (word != null) {
+            if (rows.length <= word.length()) {
+                rows = growRows(rows, word.length() + 1, query.length() + 1);
+            }
+            int row = Math.min(commonPrefixLength(previousWord, word), validRows) + 1;
+            boolean isPruned = false;
+            for (; row <= word.length(); row++) {
+                if (nextRow(rows[row - 1], rows[row], word.charAt(row - 1), query) > maxDistance) {
+                    isPruned = true;
+                    break;
+                }
+            }
+
+            previousWord = word;
+            if (isPruned) {
+                // No word starting with the first row characters of this word can come within reach
+                validRows = row - 1;
+                remaining = words.tailSet(word.substring(0, row) + Character.MAX_VALUE, false).iterator();
+            } else {
+                validRows = word.length();
+                int distance = rows[word.length()][query.length()];
+                if (distance <= maxDistance) {
+                    action.accept(word, distance);
+                }
+            }
+            word = remaining.hasNext() ? remaining.next() : null;
+        }
+    }
+
+    private static void firstRow(int[] row) {
+        for (int j = 0; j < row.length; j++) {
+            row[j] = j;
+        }
+    }
+
+    /**
+     * Fills {@code current} with the distances after appending {@code c} to the word of {@code previous}.
+     *
+     * @return the smallest distance in {@code current}.
+     */
+    private static int nextRow(int[] previous, int[] current, char c, String other) {
+        current[0] = previous[0] + 1;
+        int smallest = current[0];
+        for (int j = 1; j < current.length; j++) {
+            int substitution = previous[j - 1] + (other.charAt(j - 1) == c ? 0 : 1);
+            current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            smallest = Math.min(smallest, current[j]);
+        }
+        return smallest;
+    }
+
+    private static int[][] growRows(int[][] rows, int rowCount, int rowLength) {
+        int[][] grown = Arrays.copyOf(rows, rowCount);
+        for (int i = rows.length; i < rowCount; i++) {
+            grown[i] = new int[rowLength];
+        }
+        return grown;
+    }
+
+    private static int commonPrefixLength(String first, String second) {
+        int length = Math.min(first.length(), second.length());
+        int i = 0;
+        while (i < length && first.charAt(i) == second.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+}
@@ -0,0 +1,129 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Remembers which persons of a {@code UniquePersonList} matched the predicates it was recently filtered by,
+ * so that filtering by an equal predicate again tests membership instead of evaluating the predicate.
+ *
+ * Results are kept for the {@link #CAPACITY} most recently used predicates, which must be immutable and have
+ * value-based {@code equals} and {@code hashCode}. The list tells the cache about every change: each addition,
+ * removal or edit is patched into every remembered result by testing only the changed person, and stamps the
+ * results with the new version of the list. Replacing the whole list discards the results.
+ */
+public class FilterResultCache {
+
+    /**
+     * The number of results kept. Each result holds up to every person of the list, so only a few are kept.
+     */
+    public static final int CAPACITY = 4;
+
+    private final Supplier<Collection<Person>> persons;
+    private final Map<Predicate<Person>, Result> results = new LinkedHashMap<>(CAPACITY + 1, 1f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Predicate<Person>, Result> eldest) {
+            return size() > CAPACITY;
+        }
+    };
+    private long version = 0;
+    private long hitCount = 0;
+
+    /**
+     * Creates an empty cache over the persons given by {@code persons}, which must be current whenever asked.
+     */
+    FilterResultCache(Supplier<Collection<Person>> persons) {
+        this.persons = persons;
+    }
+
+    /**
+     * Returns a predicate that gives the same result as {@code evaluator} for every person of the list,
+     * answered from the remembered result of {@code predicate}.
+     * If no current result is remembered, the persons of the list are evaluated once by {@code evaluator},
+     * which must give the same results as {@code predicate}. Should the result be discarded later, the returned
+     * predicate falls back to {@code evaluator}.
+     */
+    public Predicate<Person> filterFor(Predicate<Person> predicate, Predicate<Person> evaluator) {
+        requireNonNull(predicate);
+        requireNonNull(evaluator);
+        Result result = results.get(predicate);
+        if (result != null && result.version == version) {
+            hitCount++;
+        } else {
+            result = new Result(predicate);
+            for (Person person : persons.get()) {
+                if (evaluator.test(person)) {
+                    result.matches.add(person);
+                }
+            }
+            results.put(predicate, result);
+        }
+
+        Result found = result;
+        return person -> found.version == version ? found.matches.contains(person) : evaluator.test(person);
+    }
+
+    /**
+     * Returns the number of times a remembered result was used instead of evaluating a predicate.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Records that {@code person} was added to the list.
+     */
+    void add(Person person) {
+        version++;
+        for (Result result : results.values()) {
+            if (result.version == version - 1) {
+                if (result.predicate.test(person)) {
+                    result.matches.add(person);
+                }
+                result.version = version;
+            }
+        }
+    }
+
+    /**
+     * Records that {@code person} was removed from the list.
+     */
+    void remove(Person person) {
+        version++;
+        for (Result result : results.values()) {
+            if (result.version == version - 1) {
+                result.matches.remove(person);
+                result.version = version;
+            }
+        }
+    }
+
+    /**
+     * Records that the contents of the list were replaced, which discards every result.
+     */
+    void clear() {
+        version++;
+        results.clear();
+    }
+
+    /**
+     * The persons matching a predicate as of a version of the list.
+     */
+    private class Result {
+        private final Predicate<Person> predicate;
+        private final Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        private long version = FilterResultCache.this.version;
+
+        Result(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate<Person>} that can be answered from the {@link PersonIndexes} of the list it filters,
+ * instead of by inspecting each person's fields.
+ */
+public interface IndexedPersonPredicate extends Predicate<Person> {
+
+    /**
+     * Returns a predicate that gives the same result as this one for every person indexed by {@code indexes}.
+     * The returned predicate must only be tested against those persons.
+     */
+    Predicate<Person> bindTo(PersonIndexes indexes);
+}
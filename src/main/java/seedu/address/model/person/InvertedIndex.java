@@ -0,0 +1,181 @@
+package seedu.address.model.person;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maps each key derived from a person to the persons it is derived from, its posting list.
+ * Posting lists hold the person instances of the owning list and compare them by identity,
+ * so that lookups do not hash every field of a person.
+ *
+ * An index created with {@link #sortedByKey(Function)} also keeps its keys sorted, so that the persons
+ * filed under a range of keys can be found without looking at the keys outside it.
+ *
+ * @param <K> the type of the keys, which must have value-based {@code equals} and {@code hashCode}.
+ */
+class InvertedIndex<K> {
+
+    private final Function<Person, ? extends Collection<K>> keysOf;
+    private final Map<K, Set<Person>> postings = new HashMap<>();
+    private final NavigableSet<K> sortedKeys;
+
+    /**
+     * Creates an empty index that files each person under the keys given by {@code keysOf}.
+     */
+    InvertedIndex(Function<Person, ? extends Collection<K>> keysOf) {
+        this(keysOf, null);
+    }
+
+    private InvertedIndex(Function<Person, ? extends Collection<K>> keysOf, NavigableSet<K> sortedKeys) {
+        this.keysOf = keysOf;
+        this.sortedKeys = sortedKeys;
+    }
+
+    /**
+     * Creates an empty index that files each person under the keys given by {@code keysOf},
+     * and keeps the keys in their natural order.
+     */
+    static <K extends Comparable<K>> InvertedIndex<K> sortedByKey(Function<Person, ? extends Collection<K>> keysOf) {
+        return new InvertedIndex<>(keysOf, new TreeSet<>());
+    }
+
+    void add(Person person) {
+        for (K key : keysOf.apply(person)) {
+            Set<Person> posting = postings.get(key);
+            if (posting == null) {
+                posting = Collections.newSetFromMap(new IdentityHashMap<>());
+                postings.put(key, posting);
+                if (sortedKeys != null) {
+                    sortedKeys.add(key);
+                }
+            }
+            posting.add(person);
+        }
+    }
+
+    void remove(Person person) {
+        for (K key : keysOf.apply(person)) {
+            Set<Person> posting = postings.get(key);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(key);
+                if (sortedKeys != null) {
+                    sortedKeys.remove(key);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        postings.clear();
+        if (sortedKeys != null) {
+            sortedKeys.clear();
+        }
+    }
+
+    /**
+     * Returns the persons filed under {@code key}. The returned set must not be modified.
+     */
+    Set<Person> get(K key) {
+        return postings.getOrDefault(key, Collections.emptySet());
+    }
+
+    /**
+     * Returns the number of persons filed under {@code key}.
+     */
+    int count(K key) {
+        Set<Person> posting = postings.get(key);
+        return posting == null ? 0 : posting.size();
+    }
+
+    /**
+     * Returns true if {@code person} is filed under {@code key}.
+     */
+    boolean contains(K key, Person person) {
+        Set<Person> posting = postings.get(key);
+        return posting != null && posting.contains(person);
+    }
+
+    /**
+     * Returns the number of persons filed under each key that at least one person is filed under.
+     */
+    Map<K, Integer> counts() {
+        Map<K, Integer> counts = new HashMap<>();
+        postings.forEach((key, posting) -> counts.put(key, posting.size()));
+        return counts;
+    }
+
+    /**
+     * Returns the keys that at least one person is filed under. The returned set must not be modified.
+     */
+    Set<K> keys() {
+        return postings.keySet();
+    }
+
+    /**
+     * Returns the posting lists of {@code keys}, smallest first, so that walking them in order
+     * rules persons out as early as possible.
+     */
+    List<Set<Person>> postingsSmallestFirst(Collection<K> keys) {
+        return keys.stream()
+                .distinct()
+                .map(this::get)
+                .sorted(Comparator.comparingInt(Set::size))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the persons filed under any of {@code keys}.
+     */
+    Set<Person> union(Collection<K> keys) {
+        Set<Person> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (K key : keys) {
+            result.addAll(get(key));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the keys that at least one person is filed under, in their natural order.
+     * The index must have been created with {@link #sortedByKey(Function)}.
+     */
+    NavigableSet<K> sortedKeys() {
+        assert sortedKeys != null : "Only an index sorted by key keeps its keys sorted";
+        return Collections.unmodifiableNavigableSet(sortedKeys);
+    }
+
+    /**
+     * Returns the persons filed under a key from {@code fromKey} inclusive to {@code toKey} exclusive.
+     * Only the keys in the range are visited. The index must have been created with {@link #sortedByKey(Function)}.
+     */
+    Set<Person> unionOfRange(K fromKey, K toKey) {
+        assert sortedKeys != null : "Key ranges can only be looked up in an index sorted by key";
+        return union(sortedKeys.subSet(fromKey, true, toKey, false));
+    }
+
+    /**
+     * Returns the persons filed under every one of {@code keys}.
+     * The smallest posting list is copied and then narrowed by the others, so the work is bounded by its size.
+     */
+    Set<Person> intersect(Collection<K> keys) {
+        List<Set<Person>> smallestFirst = postingsSmallestFirst(keys);
+        if (smallestFirst.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<Person> result = Collections.newSetFromMap(new IdentityHashMap<>());
+        result.addAll(smallestFirst.get(0));
+        for (int i = 1; i < smallestFirst.size() && !result.isEmpty(); i++) {
+            result.retainAll(smallestFirst.get(i));
+        }
+        return result;
+    }
+}
@@ -3,6 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -25,6 +30,11 @@ public class Name {
 
     public final String fullName;
 
+    private final String identityKey;
+
+    /** The words of this name {@link StringUtil#foldForLooseMatch(String) folded loosely}, computed when first used. */
+    private List<String> looseTokens;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -34,6 +44,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        identityKey = foldCase(name);
     }
 
     /**
@@ -43,6 +54,49 @@ public class Name {
         return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns the case-folded form of this name.
+     * Two names are equal if and only if their identity keys are equal, so the key can be used to
+     * look up persons by identity in hash-based structures.
+     */
+    public String getIdentityKey() {
+        return identityKey;
+    }
+
+    /**
+     * Returns the case-folded words of this name, in order.
+     * A keyword matches a word of the name ignoring case if and only if its {@link #foldCase(String) folded}
+     * form is one of these.
+     */
+    public List<String> getTokens() {
+        return Arrays.asList(identityKey.split("\\s+"));
+    }
+
+    /**
+     * Returns the words of this name folded to ignore case, accents and compatibility forms of letters, in order.
+     * A keyword matches a word of the name loosely if and only if its {@link StringUtil#foldForLooseMatch(String)
+     * loosely folded} form is one of these. The words are folded once per name and then kept.
+     */
+    public List<String> getLooseTokens() {
+        if (looseTokens == null) {
+            String looseKey = StringUtil.foldForLooseMatch(fullName);
+            looseTokens = looseKey.equals(identityKey)
+                    ? getTokens()
+                    : List.of(looseKey.trim().split("\\s+"));
+        }
+        return looseTokens;
+    }
+
+    /**
+     * Folds each code point of {@code name} the same way {@link String#equalsIgnoreCase(String)} compares them.
+     */
+    static String foldCase(String name) {
+        StringBuilder folded = new StringBuilder(name.length());
+        name.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+
 
     @Override
     public String toString() {
@@ -61,12 +115,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.equalsIgnoreCase(otherName.fullName);
+        return identityKey.equals(otherName.identityKey);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return identityKey.hashCode();
     }
 
 }
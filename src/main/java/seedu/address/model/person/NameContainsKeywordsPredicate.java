@@ -8,8 +8,10 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Against an address book, the matches are found as the union of the posting lists of the keywords in its index
+ * of name words, so the cost depends on the number of persons found rather than on the number of persons.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPersonPredicate {
     private final List<String> keywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
@@ -22,6 +24,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
     }
 
+    @Override
+    public Predicate<Person> bindTo(PersonIndexes indexes) {
+        return indexes.foundBy(() -> indexes.withAnyNameWord(keywords));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -37,6 +44,11 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
     }
 
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("keywords", keywords).toString();
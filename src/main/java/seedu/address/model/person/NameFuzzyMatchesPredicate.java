@@ -0,0 +1,80 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name} is within a number of edits of any of the words given,
+ * ignoring case. An edit inserts, deletes or replaces one letter.
+ * Against an address book, the words are looked up in its sorted index of name words, and the persons with
+ * the fewest edits are listed first.
+ */
+public class NameFuzzyMatchesPredicate implements RankedPersonPredicate {
+    private final List<String> words;
+    private final int maxEdits;
+
+    /**
+     * Creates a predicate matching persons with a name word at most {@code maxEdits} edits from any of {@code words}.
+     */
+    public NameFuzzyMatchesPredicate(List<String> words, int maxEdits) {
+        requireNonNull(words);
+        this.words = words;
+        this.maxEdits = maxEdits;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getName().getTokens().stream()
+                .anyMatch(token -> words.stream()
+                        .anyMatch(word -> EditDistance.between(token, Name.foldCase(word.trim())) <= maxEdits));
+    }
+
+    @Override
+    public Predicate<Person> bindTo(PersonIndexes indexes) {
+        Supplier<Map<Person, Integer>> distances = distancesIn(indexes);
+        return person -> distances.get().containsKey(person);
+    }
+
+    @Override
+    public Comparator<Person> rankIn(PersonIndexes indexes) {
+        Supplier<Map<Person, Integer>> distances = distancesIn(indexes);
+        return Comparator.comparingInt(person -> distances.get().getOrDefault(person, Integer.MAX_VALUE));
+    }
+
+    private Supplier<Map<Person, Integer>> distancesIn(PersonIndexes indexes) {
+        return indexes.cachedUntilChanged(() -> indexes.withNameWordsWithin(words, maxEdits));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NameFuzzyMatchesPredicate)) {
+            return false;
+        }
+
+        NameFuzzyMatchesPredicate otherPredicate = (NameFuzzyMatchesPredicate) other;
+        return words.equals(otherPredicate.words) && maxEdits == otherPredicate.maxEdits;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(words, maxEdits);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("words", words).add("maxEdits", maxEdits).toString();
+    }
+}
@@ -1,13 +1,19 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 
 /**
  * Represents a GMT offset for a person.
  * Guarantees: valid format +HH:MM or -HH:MM, immutable.
+ *
+ * There are only a few dozen valid offsets, so {@link #of(String)} returns one shared instance per offset,
+ * and equal offsets created through it are the same instance.
  */
 public class Offset implements Comparable<Offset> {
 
@@ -17,6 +23,7 @@ public class Offset implements Comparable<Offset> {
                     + "MM is one of 00, 30, or 45 only and valid existing offsets";
     public static final String VALIDATION_REGEX = "^[+-](\\d{2}):(\\d{2})$";
     private static final Logger logger = Logger.getLogger(Offset.class.getName());
+    private static final Map<String, Offset> INTERNED = new ConcurrentHashMap<>();
     public final String value;
     private final int totalMinutes; // offset in minutes
 
@@ -39,6 +46,16 @@ public class Offset implements Comparable<Offset> {
         logger.info("Offset created: " + this + ", totalMinutes=" + totalMinutes);
     }
 
+    /**
+     * Returns the shared {@code Offset} for {@code input}, creating it on first use.
+     *
+     * @param input GMT offset in the format +HH:MM or -HH:MM
+     */
+    public static Offset of(String input) {
+        requireNonNull(input);
+        return INTERNED.computeIfAbsent(input, Offset::new);
+    }
+
     /**
      * Returns true if the given string is a valid GMT/UTC offset in the format +HH:MM or -HH:MM,
      * within the allowed timezone range.
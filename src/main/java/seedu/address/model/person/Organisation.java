@@ -3,9 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Person's organisation (e.g., company, school, club).
  * Guarantees: immutable.
+ *
+ * Many persons share an organisation, so {@link #of(String)} returns one shared instance per organisation,
+ * and equal organisations created through it are the same instance, folded for loose matching only once.
+ * Organisations are free text, so an organisation no person has any more is not kept.
  */
 public class Organisation {
 
@@ -13,8 +20,12 @@ public class Organisation {
 
     public static final int MAX_LENGTH = 60;
 
+    private static final WeakInterner<Organisation> INTERNED = new WeakInterner<>(Organisation::new);
+
     public final String value;
 
+    private String looseKey;
+
     /**
      * Constructs an {@code Organisation}.
      * An empty string is allowed to represent no organisation.
@@ -25,6 +36,15 @@ public class Organisation {
         value = organisation;
     }
 
+    /**
+     * Returns the shared {@code Organisation} for {@code organisation}, creating it on first use.
+     * An empty string is allowed to represent no organisation.
+     */
+    public static Organisation of(String organisation) {
+        requireNonNull(organisation);
+        return INTERNED.intern(organisation);
+    }
+
     /**
      * Returns true if a given string is a valid organisation.
      */
@@ -32,6 +52,17 @@ public class Organisation {
         return test.length() <= MAX_LENGTH;
     }
 
+    /**
+     * Returns this organisation folded to ignore case, accents and compatibility forms of letters.
+     * The organisation is folded when first asked and then kept.
+     */
+    public String getLooseKey() {
+        if (looseKey == null) {
+            looseKey = StringUtil.foldForLooseMatch(value.trim());
+        }
+        return looseKey;
+    }
+
     @Override
     public String toString() {
         return value;
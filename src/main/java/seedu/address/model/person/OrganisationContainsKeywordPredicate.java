@@ -5,8 +5,9 @@ import java.util.function.Predicate;
 /**
  * Tests that a {@code Person}'s {@code Organisation} matches the keyword.
  * Matching is case-sensitive.
+ * Against an address book, the test is answered from its organisation index.
  */
-public class OrganisationContainsKeywordPredicate implements Predicate<Person> {
+public class OrganisationContainsKeywordPredicate implements IndexedPersonPredicate {
 
     private final String keyword;
 
@@ -25,6 +26,11 @@ public class OrganisationContainsKeywordPredicate implements Predicate<Person> {
             && person.getOrganisation().toString().equals(keyword); // case-sensitive exact match
     }
 
+    @Override
+    public Predicate<Person> bindTo(PersonIndexes indexes) {
+        return indexes.inOrganisation(keyword);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // same object
@@ -32,6 +38,11 @@ public class OrganisationContainsKeywordPredicate implements Predicate<Person> {
             && keyword.equals(((OrganisationContainsKeywordPredicate) other).keyword));
     }
 
+    @Override
+    public int hashCode() {
+        return keyword.hashCode();
+    }
+
     @Override
     public String toString() {
         return "OrganisationContainsKeywordPredicate{keyword=" + keyword + "}";
@@ -2,8 +2,11 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.text.CollationKey;
+import java.text.Collator;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
 
@@ -17,6 +20,11 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    /** Country sort key of persons without a country, which sorts after every other country. */
+    public static final String BLANK_COUNTRY_SORT_KEY = "\uFFFF";
+
+    private static final Collator NAME_COLLATOR = Collator.getInstance(Locale.ROOT);
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -30,12 +38,19 @@ public class Person {
     private final Event event;
     private final Note note;
     private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> unmodifiableTags = Collections.unmodifiableSet(tags);
     private final CommunicationChannel preferredChannel;
     private final Offset offset;
     private final PreferredLanguage preferredLanguage;
 
     private final boolean isArchived;
 
+    // Sort keys, derived from the immutable fields above on first use
+    private CollationKey nameSortKey;
+    private String countrySortKey;
+    private long addedOnSortKey;
+    private boolean isAddedOnSortKeyComputed;
+
     /**
      * Every field must be present and not null.
      */
@@ -63,7 +78,7 @@ public class Person {
 
         String countryCode = phone.getCountryCode();
         if (!countryCode.equals("Unknown") && !countryCode.equals("Invalid")) {
-            Tag countryTag = new Tag("+" + countryCode);
+            Tag countryTag = Tag.of("+" + countryCode);
             this.tags.add(countryTag);
         }
     }
@@ -94,7 +109,7 @@ public class Person {
 
         String countryCode = phone.getCountryCode();
         if (!countryCode.equals("Unknown") && !countryCode.equals("Invalid")) {
-            Tag countryTag = new Tag("+" + countryCode);
+            Tag countryTag = Tag.of("+" + countryCode);
             this.tags.add(countryTag);
         }
     }
@@ -172,7 +187,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return unmodifiableTags;
     }
 
     public Offset getOffset() {
@@ -183,6 +198,57 @@ public class Person {
         return addedOn;
     }
 
+    /**
+     * Returns a copy of this person with the given archival status.
+     */
+    public Person withArchivalStatus(boolean isArchived) {
+        return new Person(name, phone, email, address, country, organisation, event, note, preferredChannel, tags,
+                offset, preferredLanguage, addedOn, isArchived);
+    }
+
+    /**
+     * Returns a copy of this person with the given tags.
+     * Country code tags are derived from the phone number again, so they need not be in {@code tags}.
+     */
+    public Person withTags(Set<Tag> tags) {
+        return new Person(name, phone, email, address, country, organisation, event, note, preferredChannel, tags,
+                offset, preferredLanguage, addedOn, isArchived);
+    }
+
+    /**
+     * Returns the key that orders persons by name, ignoring case.
+     */
+    public CollationKey getNameSortKey() {
+        if (nameSortKey == null) {
+            nameSortKey = NAME_COLLATOR.getCollationKey(name.getIdentityKey());
+        }
+        return nameSortKey;
+    }
+
+    /**
+     * Returns the key that orders persons by country, ignoring case.
+     * Persons without a country get {@link #BLANK_COUNTRY_SORT_KEY}.
+     */
+    public String getCountrySortKey() {
+        if (countrySortKey == null) {
+            countrySortKey = country == null || country.value.isBlank()
+                    ? BLANK_COUNTRY_SORT_KEY
+                    : country.value.toLowerCase(Locale.ROOT);
+        }
+        return countrySortKey;
+    }
+
+    /**
+     * Returns the key that orders persons by the date they were added, in epoch milliseconds.
+     */
+    public long getAddedOnSortKey() {
+        if (!isAddedOnSortKeyComputed) {
+            addedOnSortKey = addedOn.toEpochMillis();
+            isAddedOnSortKeyComputed = true;
+        }
+        return addedOnSortKey;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
@@ -0,0 +1,110 @@
+package seedu.address.model.person;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The recent changes to the persons of a {@code UniquePersonList}, as they were when the log was taken.
+ * A log is immutable and costs constant time to take, so it can be handed to another thread with a copy of the
+ * persons, and later logs of the same list tell which persons changed since it was taken.
+ *
+ * Only the last {@link #REMEMBERED_CHANGES} to {@code 2 * REMEMBERED_CHANGES} changes are remembered, and
+ * replacing the whole list forgets every change before it.
+ */
+public final class PersonChangeLog {
+
+    public static final int REMEMBERED_CHANGES = 4096;
+
+    private final Recorder recorder;
+    private final Change newest;
+    private final long modificationCount;
+
+    private PersonChangeLog(Recorder recorder, Change newest, long modificationCount) {
+        this.recorder = recorder;
+        this.newest = newest;
+        this.modificationCount = modificationCount;
+    }
+
+    /**
+     * Returns the persons changed since {@code earlier}, a log taken before of the same list, by the identity key
+     * of their names: the person with that key now, or null if there is none.
+     * Returns an empty Optional if {@code earlier} is null, is of another list, or is too old for all the changes
+     * since to be remembered.
+     */
+    public Optional<Map<String, Person>> changesSince(PersonChangeLog earlier) {
+        if (earlier == null || earlier.recorder != recorder || earlier.modificationCount > modificationCount) {
+            return Optional.empty();
+        }
+        Map<String, Person> changes = new HashMap<>();
+        long expectedCount = modificationCount;
+        for (Change change = newest; expectedCount > earlier.modificationCount; change = change.older) {
+            if (change == null || change.modificationCount != expectedCount || change.person == null) {
+                return Optional.empty();
+            }
+            String key = change.person.getName().getIdentityKey();
+            if (!changes.containsKey(key)) {
+                changes.put(key, change.isAddition ? change.person : null);
+            }
+            expectedCount--;
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Records the changes to the persons of a list, numbered by the modification count of the list.
+     */
+    static class Recorder {
+
+        private Change newest;
+        private Change boundary;
+
+        void added(Person person, long modificationCount) {
+            record(new Change(person, true, modificationCount));
+        }
+
+        void removed(Person person, long modificationCount) {
+            record(new Change(person, false, modificationCount));
+        }
+
+        /**
+         * Records that the whole list was replaced, which forgets every change before.
+         */
+        void replaced(long modificationCount) {
+            newest = new Change(null, false, modificationCount);
+            boundary = newest;
+        }
+
+        PersonChangeLog take(long modificationCount) {
+            return new PersonChangeLog(this, newest, modificationCount);
+        }
+
+        private void record(Change change) {
+            change.older = newest;
+            newest = change;
+            if (change.modificationCount % REMEMBERED_CHANGES == 0) {
+                // Forgets the changes before the previous boundary, also for the logs already taken.
+                if (boundary != null) {
+                    boundary.older = null;
+                }
+                boundary = change;
+            }
+        }
+    }
+
+    /**
+     * A person added or removed, or the whole list replaced if there is no person.
+     */
+    private static class Change {
+        private final Person person;
+        private final boolean isAddition;
+        private final long modificationCount;
+        private volatile Change older;
+
+        Change(Person person, boolean isAddition, long modificationCount) {
+            this.person = person;
+            this.isAddition = isAddition;
+            this.modificationCount = modificationCount;
+        }
+    }
+}
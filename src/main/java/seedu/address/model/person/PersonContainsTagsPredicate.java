@@ -8,8 +8,10 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} list contains all of the specified tags.
+ * Against an address book, the matches are found by intersecting the posting lists of the tags in its tag index,
+ * smallest first, so the cost depends on the rarest tag rather than on the number of persons.
  */
-public class PersonContainsTagsPredicate implements Predicate<Person> {
+public class PersonContainsTagsPredicate implements IndexedPersonPredicate {
     private final List<Tag> tags;
 
     public PersonContainsTagsPredicate(List<Tag> tags) {
@@ -22,6 +24,14 @@ public class PersonContainsTagsPredicate implements Predicate<Person> {
         return person.getTags().containsAll(tags);
     }
 
+    @Override
+    public Predicate<Person> bindTo(PersonIndexes indexes) {
+        if (tags.isEmpty()) {
+            return person -> true;
+        }
+        return indexes.foundBy(() -> indexes.withAllTags(tags));
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -37,6 +47,11 @@ public class PersonContainsTagsPredicate implements Predicate<Person> {
         return tags.equals(otherPredicate.tags);
     }
 
+    @Override
+    public int hashCode() {
+        return tags.hashCode();
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this).add("tags", tags).toString();
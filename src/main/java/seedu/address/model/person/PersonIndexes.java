@@ -0,0 +1,384 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Secondary indexes over the persons of a {@code UniquePersonList}, kept up to date by the list itself.
+ * Every person is filed under each of its tags, including the {@code +<countrycode>} tag derived from its phone,
+ * under each case-folded word of its name, and under its country and organisation.
+ * Lookups cost time in the number of persons found, and counts per key cost constant time.
+ * Name words are also kept sorted, so that the words starting with a prefix, or within a few edits of a query,
+ * are found without visiting the others.
+ * Name words and organisations are filed a second time in a loosely folded form, which also ignores accents and
+ * compatibility forms of letters, so that loose matches cost the same as exact ones.
+ */
+public class PersonIndexes {
+
+    private final InvertedIndex<Tag> byTag = new InvertedIndex<>(Person::getTags);
+    private final InvertedIndex<String> byNameToken =
+            InvertedIndex.sortedByKey(person -> person.getName().getTokens());
+    private final InvertedIndex<String> byCountry = new InvertedIndex<>(person ->
+            person.getCountry() == null ? List.of() : List.of(person.getCountry().value));
+    private final InvertedIndex<String> byOrganisation = new InvertedIndex<>(person ->
+            person.getOrganisation() == null ? List.of() : List.of(person.getOrganisation().value));
+    private final InvertedIndex<String> byLooseNameToken =
+            new InvertedIndex<>(person -> person.getName().getLooseTokens());
+    private final InvertedIndex<String> byLooseOrganisation = new InvertedIndex<>(person ->
+            person.getOrganisation() == null ? List.of() : List.of(person.getOrganisation().getLooseKey()));
+    private final List<InvertedIndex<?>> allIndexes = List.of(byTag, byNameToken, byCountry, byOrganisation,
+            byLooseNameToken, byLooseOrganisation);
+
+    private final PersonChangeLog.Recorder changes = new PersonChangeLog.Recorder();
+    private long modificationCount = 0;
+
+    PersonIndexes() {}
+
+    void add(Person person) {
+        modificationCount++;
+        file(person);
+        changes.added(person, modificationCount);
+    }
+
+    void remove(Person person) {
+        modificationCount++;
+        for (InvertedIndex<?> index : allIndexes) {
+            index.remove(person);
+        }
+        changes.removed(person, modificationCount);
+    }
+
+    /**
+     * Replaces the contents of the indexes with {@code persons}.
+     */
+    void setAll(Collection<Person> persons) {
+        modificationCount++;
+        for (InvertedIndex<?> index : allIndexes) {
+            index.clear();
+        }
+        persons.forEach(this::file);
+        changes.replaced(modificationCount);
+    }
+
+    private void file(Person person) {
+        for (InvertedIndex<?> index : allIndexes) {
+            index.add(person);
+        }
+    }
+
+    /**
+     * Returns the number of changes made to the indexes so far.
+     */
+    long getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Returns the log of the recent changes to the persons, as they are now.
+     */
+    PersonChangeLog getChangeLog() {
+        return changes.take(modificationCount);
+    }
+
+    /**
+     * Returns the number of persons tagged with {@code tag}.
+     */
+    public int countWithTag(Tag tag) {
+        requireNonNull(tag);
+        return byTag.count(tag);
+    }
+
+    /**
+     * Returns the persons tagged with every one of {@code tags}.
+     * The posting lists are intersected smallest first.
+     */
+    public Set<Person> withAllTags(Collection<Tag> tags) {
+        requireNonNull(tags);
+        return byTag.intersect(tags);
+    }
+
+    /**
+     * Returns a predicate that tests whether a person of the indexed list is tagged with every one of {@code tags}.
+     * Each test looks the person up in the posting lists of {@code tags}, smallest first, so most persons
+     * are ruled out by the first lookup. The predicate reads the indexes as they are when it is tested.
+     */
+    public Predicate<Person> taggedWithAll(Collection<Tag> tags) {
+        requireNonNull(tags);
+        List<Tag> smallestFirst = tags.stream()
+                .distinct()
+                .sorted((t1, t2) -> Integer.compare(byTag.count(t1), byTag.count(t2)))
+                .toList();
+        return person -> {
+            for (Tag tag : smallestFirst) {
+                if (!byTag.contains(tag, person)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns the persons with a name containing any of {@code keywords} as a whole word, ignoring case.
+     * This is the union of the posting lists of the keywords.
+     */
+    public Set<Person> withAnyNameWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return byNameToken.union(foldAll(keywords));
+    }
+
+    /**
+     * Returns the number of persons with a name containing {@code word} as a whole word, ignoring case.
+     */
+    public int countWithNameWord(String word) {
+        requireNonNull(word);
+        return byNameToken.count(Name.foldCase(word.trim()));
+    }
+
+    /**
+     * Returns a predicate that tests whether a person of the indexed list has a name containing any of
+     * {@code keywords} as a whole word, ignoring case.
+     * Each test looks the person up in the posting lists of the keywords, instead of splitting its name.
+     * The predicate reads the indexes as they are when it is tested.
+     */
+    public Predicate<Person> namedWithAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<String> tokens = foldAll(keywords);
+        return person -> {
+            for (String token : tokens) {
+                if (byNameToken.contains(token, person)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the persons with a name containing any of {@code keywords} as a whole word, ignoring case, accents
+     * and compatibility forms of letters.
+     */
+    public Set<Person> withAnyLooseNameWord(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return byLooseNameToken.union(foldAllLoosely(keywords));
+    }
+
+    /**
+     * Returns the persons whose organisation is any of {@code organisations}, ignoring case, accents
+     * and compatibility forms of letters.
+     */
+    public Set<Person> inAnyLooseOrganisation(Collection<String> organisations) {
+        requireNonNull(organisations);
+        return byLooseOrganisation.union(foldAllLoosely(organisations));
+    }
+
+    /**
+     * Returns a predicate that tests whether a person of the indexed list has a name containing any of
+     * {@code keywords} as a whole word, or an organisation that is any of {@code organisations}, ignoring case,
+     * accents and compatibility forms of letters. The keywords are folded once, and each test looks the person up
+     * in their posting lists. The predicate reads the indexes as they are when it is tested.
+     */
+    public Predicate<Person> matchingLoosely(Collection<String> keywords, Collection<String> organisations) {
+        requireNonNull(keywords);
+        requireNonNull(organisations);
+        List<String> nameTokens = foldAllLoosely(keywords);
+        List<String> organisationKeys = foldAllLoosely(organisations);
+        return person -> {
+            for (String token : nameTokens) {
+                if (byLooseNameToken.contains(token, person)) {
+                    return true;
+                }
+            }
+            for (String key : organisationKeys) {
+                if (byLooseOrganisation.contains(key, person)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the persons from {@code country}.
+     */
+    public Set<Person> withCountry(Country country) {
+        requireNonNull(country);
+        return byCountry.get(country.value);
+    }
+
+    /**
+     * Returns the number of persons from {@code country}.
+     */
+    public int countWithCountry(Country country) {
+        requireNonNull(country);
+        return byCountry.count(country.value);
+    }
+
+    /**
+     * Returns the number of persons from each country that at least one person is from.
+     */
+    public Map<String, Integer> countByCountry() {
+        return byCountry.counts();
+    }
+
+    /**
+     * Returns a predicate that tests whether a person of the indexed list is from {@code country}.
+     */
+    public Predicate<Person> fromCountry(Country country) {
+        requireNonNull(country);
+        return person -> byCountry.contains(country.value, person);
+    }
+
+    /**
+     * Returns the persons whose organisation is exactly {@code organisation}.
+     */
+    public Set<Person> withOrganisation(String organisation) {
+        requireNonNull(organisation);
+        return byOrganisation.get(organisation);
+    }
+
+    /**
+     * Returns the number of persons whose organisation is exactly {@code organisation}.
+     */
+    public int countWithOrganisation(String organisation) {
+        requireNonNull(organisation);
+        return byOrganisation.count(organisation);
+    }
+
+    /**
+     * Returns the number of persons in each organisation that at least one person is in.
+     */
+    public Map<String, Integer> countByOrganisation() {
+        return byOrganisation.counts();
+    }
+
+    /**
+     * Returns a predicate that tests whether a person of the indexed list is in exactly {@code organisation}.
+     */
+    public Predicate<Person> inOrganisation(String organisation) {
+        requireNonNull(organisation);
+        return person -> byOrganisation.contains(organisation, person);
+    }
+
+    /**
+     * Returns the persons with a name containing a word that starts with {@code prefix}, ignoring case.
+     * Only the name words starting with {@code prefix} are visited.
+     */
+    public Set<Person> withNameWordPrefix(String prefix) {
+        requireNonNull(prefix);
+        String foldedPrefix = Name.foldCase(prefix.trim());
+        return byNameToken.unionOfRange(foldedPrefix, foldedPrefix + Character.MAX_VALUE);
+    }
+
+    /**
+     * Returns the persons with a tag that starts with {@code prefix}, ignoring case.
+     */
+    public Set<Person> withTagPrefix(String prefix) {
+        requireNonNull(prefix);
+        return unionOfKeysWithPrefix(byTag, tag -> tag.tagName, prefix);
+    }
+
+    /**
+     * Returns the persons in an organisation that starts with {@code prefix}, ignoring case.
+     */
+    public Set<Person> withOrganisationPrefix(String prefix) {
+        requireNonNull(prefix);
+        return unionOfKeysWithPrefix(byOrganisation, organisation -> organisation, prefix);
+    }
+
+    /**
+     * Returns the persons from a country that starts with {@code prefix}, ignoring case.
+     */
+    public Set<Person> withCountryPrefix(String prefix) {
+        requireNonNull(prefix);
+        return unionOfKeysWithPrefix(byCountry, country -> country, prefix);
+    }
+
+    /**
+     * Returns the persons with a name word within {@code maxEdits} edits of any of {@code words}, ignoring case,
+     * each mapped to the fewest edits between one of its name words and one of {@code words}.
+     * Only the name words sharing a prefix within reach of a query word are visited.
+     */
+    public Map<Person, Integer> withNameWordsWithin(Collection<String> words, int maxEdits) {
+        requireNonNull(words);
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        for (String word : foldAll(words)) {
+            EditDistance.forEachWithin(byNameToken.sortedKeys(), word, maxEdits, (token, distance) -> {
+                for (Person person : byNameToken.get(token)) {
+                    distances.merge(person, distance, Math::min);
+                }
+            });
+        }
+        return distances;
+    }
+
+    /**
+     * Returns a predicate that tests whether a person of the indexed list is one of the persons found by
+     * {@code query}. The query is run when the predicate is first tested, and again only when a test comes
+     * after the indexes have changed, so each test is otherwise a single lookup.
+     */
+    public Predicate<Person> foundBy(Supplier<Set<Person>> query) {
+        requireNonNull(query);
+        Supplier<Set<Person>> found = cachedUntilChanged(query);
+        return person -> found.get().contains(person);
+    }
+
+    /**
+     * Returns a supplier of the result of {@code query}, which runs the query when first asked and again
+     * only when asked after the indexes have changed.
+     */
+    public <T> Supplier<T> cachedUntilChanged(Supplier<T> query) {
+        requireNonNull(query);
+        return new Supplier<>() {
+            private long queriedAt = -1;
+            private T result;
+
+            @Override
+            public T get() {
+                if (queriedAt != modificationCount) {
+                    result = query.get();
+                    queriedAt = modificationCount;
+                }
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Returns the persons filed in {@code index} under a key whose text starts with {@code prefix}, ignoring case.
+     * The keys are few for the fields this is used on, so they are compared one by one.
+     */
+    private static <K> Set<Person> unionOfKeysWithPrefix(InvertedIndex<K> index, Function<K, String> textOf,
+            String prefix) {
+        String foldedPrefix = Name.foldCase(prefix.trim());
+        List<K> matchingKeys = index.keys().stream()
+                .filter(key -> Name.foldCase(textOf.apply(key)).startsWith(foldedPrefix))
+                .toList();
+        return index.union(matchingKeys);
+    }
+
+    private static List<String> foldAll(Collection<String> keywords) {
+        return keywords.stream()
+                .map(keyword -> Name.foldCase(keyword.trim()))
+                .distinct()
+                .toList();
+    }
+
+    private static List<String> foldAllLoosely(Collection<String> keywords) {
+        return keywords.stream()
+                .map(keyword -> StringUtil.foldForLooseMatch(keyword.trim()))
+                .distinct()
+                .toList();
+    }
+}
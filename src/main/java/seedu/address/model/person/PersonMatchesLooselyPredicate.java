@@ -0,0 +1,75 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a {@code Person}'s {@code Name} contains any of the keywords given as a whole word, or that its
+ * {@code Organisation} is any of the organisations given. Matching ignores case, accents and compatibility forms
+ * of letters, so that {@code jose} matches {@code José}.
+ * Against an address book, the test is answered from its loosely folded indexes.
+ */
+public class PersonMatchesLooselyPredicate implements IndexedPersonPredicate {
+    private final List<String> nameKeywords;
+    private final List<String> organisations;
+
+    /**
+     * Creates a predicate matching persons with a name word loosely equal to any of {@code nameKeywords},
+     * or an organisation loosely equal to any of {@code organisations}.
+     */
+    public PersonMatchesLooselyPredicate(List<String> nameKeywords, List<String> organisations) {
+        requireAllNonNull(nameKeywords, organisations);
+        this.nameKeywords = nameKeywords;
+        this.organisations = organisations;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        List<String> nameTokens = person.getName().getLooseTokens();
+        return nameKeywords.stream()
+                .anyMatch(keyword -> nameTokens.contains(StringUtil.foldForLooseMatch(keyword.trim())))
+                || (person.getOrganisation() != null && organisations.stream()
+                        .anyMatch(organisation -> person.getOrganisation().getLooseKey()
+                                .equals(StringUtil.foldForLooseMatch(organisation.trim()))));
+    }
+
+    @Override
+    public Predicate<Person> bindTo(PersonIndexes indexes) {
+        return indexes.matchingLoosely(nameKeywords, organisations);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesLooselyPredicate)) {
+            return false;
+        }
+
+        PersonMatchesLooselyPredicate otherPredicate = (PersonMatchesLooselyPredicate) other;
+        return nameKeywords.equals(otherPredicate.nameKeywords)
+                && organisations.equals(otherPredicate.organisations);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nameKeywords, organisations);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nameKeywords", nameKeywords)
+                .add("organisations", organisations)
+                .toString();
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Tests that a word of a {@code Person}'s {@code Name}, one of its tags, its organisation or its country
+ * starts with any of the corresponding prefixes given. Matching ignores case.
+ * Against an address book, the matching persons are looked up in its indexes.
+ */
+public class PersonMatchesPrefixesPredicate implements IndexedPersonPredicate {
+    private final List<String> namePrefixes;
+    private final List<String> tagPrefixes;
+    private final List<String> organisationPrefixes;
+    private final List<String> countryPrefixes;
+
+    /**
+     * Creates a predicate matching persons with a name word, tag, organisation or country starting with
+     * any of {@code namePrefixes}, {@code tagPrefixes}, {@code organisationPrefixes} or {@code countryPrefixes}
+     * respectively.
+     */
+    public PersonMatchesPrefixesPredicate(List<String> namePrefixes, List<String> tagPrefixes,
+            List<String> organisationPrefixes, List<String> countryPrefixes) {
+        requireAllNonNull(namePrefixes, tagPrefixes, organisationPrefixes, countryPrefixes);
+        this.namePrefixes = namePrefixes;
+        this.tagPrefixes = tagPrefixes;
+        this.organisationPrefixes = organisationPrefixes;
+        this.countryPrefixes = countryPrefixes;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return person.getName().getTokens().stream().anyMatch(token -> startsWithAny(token, namePrefixes))
+                || person.getTags().stream().map(tag -> tag.tagName).anyMatch(name -> startsWithAny(name, tagPrefixes))
+                || (person.getOrganisation() != null
+                        && startsWithAny(person.getOrganisation().value, organisationPrefixes))
+                || (person.getCountry() != null && startsWithAny(person.getCountry().value, countryPrefixes));
+    }
+
+    private static boolean startsWithAny(String text, Collection<String> prefixes) {
+        String foldedText = Name.foldCase(text);
+        return prefixes.stream().anyMatch(prefix -> foldedText.startsWith(Name.foldCase(prefix.trim())));
+    }
+
+    @Override
+    public Predicate<Person> bindTo(PersonIndexes indexes) {
+        return indexes.foundBy(() -> {
+            Set<Person> found = Collections.newSetFromMap(new IdentityHashMap<>());
+            namePrefixes.forEach(prefix -> found.addAll(indexes.withNameWordPrefix(prefix)));
+            tagPrefixes.forEach(prefix -> found.addAll(indexes.withTagPrefix(prefix)));
+            organisationPrefixes.forEach(prefix -> found.addAll(indexes.withOrganisationPrefix(prefix)));
+            countryPrefixes.forEach(prefix -> found.addAll(indexes.withCountryPrefix(prefix)));
+            return found;
+        });
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesPrefixesPredicate)) {
+            return false;
+        }
+
+        PersonMatchesPrefixesPredicate otherPredicate = (PersonMatchesPrefixesPredicate) other;
+        return namePrefixes.equals(otherPredicate.namePrefixes)
+                && tagPrefixes.equals(otherPredicate.tagPrefixes)
+                && organisationPrefixes.equals(otherPredicate.organisationPrefixes)
+                && countryPrefixes.equals(otherPredicate.countryPrefixes);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(namePrefixes, tagPrefixes, organisationPrefixes, countryPrefixes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("namePrefixes", namePrefixes)
+                .add("tagPrefixes", tagPrefixes)
+                .add("organisationPrefixes", organisationPrefixes)
+                .add("countryPrefixes", countryPrefixes)
+                .toString();
+    }
+}
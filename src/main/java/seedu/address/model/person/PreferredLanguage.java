@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import seedu.address.model.util.StringUtils;
 import seedu.address.model.util.SupportedLanguages;
@@ -11,6 +13,9 @@ import seedu.address.model.util.SupportedLanguages;
 /**
  * Represents a person's preferred language in the address book.
  * Guarantees: immutable; value is always valid (non-null and matches validation constraints).
+ *
+ * Only the languages in {@link SupportedLanguages} are valid, so {@link #of(String)} returns one shared instance
+ * per language, and equal languages created through it are the same instance.
  */
 public class PreferredLanguage {
 
@@ -19,6 +24,8 @@ public class PreferredLanguage {
 
     public static final String VALIDATION_REGEX = "[\\p{L} !]+";
 
+    private static final Map<String, PreferredLanguage> INTERNED = new ConcurrentHashMap<>();
+
     public final String language;
 
     /**
@@ -30,7 +37,7 @@ public class PreferredLanguage {
     public PreferredLanguage(String language) {
         requireNonNull(language);
         checkArgument(isValidLanguage(language), MESSAGE_CONSTRAINTS);
-        String normalizedLanguage = language.trim().toLowerCase(Locale.ROOT);
+        String normalizedLanguage = normalize(language);
 
         checkArgument(SupportedLanguages.isSupported(normalizedLanguage),
                 "Unsupported language: " + language + ". Must be one of the supported languages.");
@@ -38,6 +45,28 @@ public class PreferredLanguage {
         this.language = normalizedLanguage;
     }
 
+    /**
+     * Returns the shared {@code PreferredLanguage} for {@code language}, creating it on first use.
+     * Spellings of a language that differ only in case or surrounding spaces share the same instance, which is
+     * kept under the normalized language only, so that there is at most one entry per supported language.
+     *
+     * @param language The language string. Must be non-null and valid.
+     */
+    public static PreferredLanguage of(String language) {
+        requireNonNull(language);
+        checkArgument(isValidLanguage(language), MESSAGE_CONSTRAINTS);
+        PreferredLanguage interned = INTERNED.get(normalize(language));
+        if (interned != null) {
+            return interned;
+        }
+        PreferredLanguage created = new PreferredLanguage(language);
+        return INTERNED.computeIfAbsent(created.language, unused -> created);
+    }
+
+    private static String normalize(String language) {
+        return language.trim().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Returns true if a given string is a valid language.
      */
@@ -0,0 +1,16 @@
+package seedu.address.model.person;
+
+import java.util.Comparator;
+
+/**
+ * An {@code IndexedPersonPredicate} whose matches are listed best match first rather than in the order of
+ * the address book.
+ */
+public interface RankedPersonPredicate extends IndexedPersonPredicate {
+
+    /**
+     * Returns the order to list the matching persons of the list indexed by {@code indexes} in, best match first.
+     * The returned comparator must only be used on those persons.
+     */
+    Comparator<Person> rankIn(PersonIndexes indexes);
+}
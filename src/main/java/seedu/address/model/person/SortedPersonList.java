@@ -0,0 +1,166 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A list of persons kept sorted by a fixed {@code Comparator}.
+ * Positions are found by binary search, so each update costs O(log n) comparisons.
+ * Persons that compare equal keep the relative order a stable sort would give them.
+ *
+ * Each update returns the positions it touched, so that callers can mirror it onto another list.
+ */
+class SortedPersonList {
+
+    private final Comparator<Person> comparator;
+    private final List<Person> persons = new ArrayList<>();
+
+    SortedPersonList(Comparator<Person> comparator) {
+        this.comparator = comparator;
+    }
+
+    /**
+     * Returns the persons in sorted order. The returned list must not be modified.
+     */
+    List<Person> asList() {
+        return persons;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code replacement}, sorted.
+     */
+    void setAll(Collection<Person> replacement) {
+        persons.clear();
+        persons.addAll(replacement);
+        persons.sort(comparator);
+    }
+
+    /**
+     * Inserts {@code person} after all persons that do not sort after it.
+     *
+     * @return the position {@code person} was inserted at.
+     */
+    int add(Person person) {
+        int index = upperBoundOf(person);
+        persons.add(index, person);
+        return index;
+    }
+
+    /**
+     * Inserts all of {@code additions}, each after all persons that do not sort after it.
+     * Only {@code additions} are sorted; they are then merged into the list in a single pass.
+     */
+    void addAll(Collection<Person> additions) {
+        List<Person> sortedAdditions = new ArrayList<>(additions);
+        sortedAdditions.sort(comparator);
+
+        List<Person> merged = new ArrayList<>(persons.size() + sortedAdditions.size());
+        int i = 0;
+        int j = 0;
+        while (i < persons.size() && j < sortedAdditions.size()) {
+            if (comparator.compare(sortedAdditions.get(j), persons.get(i)) < 0) {
+                merged.add(sortedAdditions.get(j++));
+            } else {
+                merged.add(persons.get(i++));
+            }
+        }
+        merged.addAll(persons.subList(i, persons.size()));
+        merged.addAll(sortedAdditions.subList(j, sortedAdditions.size()));
+
+        persons.clear();
+        persons.addAll(merged);
+    }
+
+    /**
+     * Removes {@code person}, which must be in the list.
+     *
+     * @return the position {@code person} was removed from.
+     */
+    int remove(Person person) {
+        int index = positionOf(person);
+        persons.remove(index);
+        return index;
+    }
+
+    /**
+     * Replaces {@code target}, which must be in the list, with {@code editedPerson}.
+     * If {@code editedPerson} still belongs at the position of {@code target}, it is replaced in place.
+     * Otherwise it is moved to its new position.
+     *
+     * @return the position {@code target} was at, followed by the position {@code editedPerson} is now at.
+     */
+    int[] set(Person target, Person editedPerson) {
+        int oldIndex = positionOf(target);
+        if (fitsAt(oldIndex, editedPerson)) {
+            persons.set(oldIndex, editedPerson);
+            return new int[] {oldIndex, oldIndex};
+        }
+
+        persons.remove(oldIndex);
+        // Mirrors a stable sort: a person moving forward lands before its new ties, otherwise after them.
+        int newIndex = comparator.compare(editedPerson, target) > 0
+                ? lowerBoundOf(editedPerson)
+                : upperBoundOf(editedPerson);
+        persons.add(newIndex, editedPerson);
+        return new int[] {oldIndex, newIndex};
+    }
+
+    /**
+     * Returns the index of the first person that does not sort before {@code person}.
+     */
+    private int lowerBoundOf(Person person) {
+        int low = 0;
+        int high = persons.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(persons.get(mid), person) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first person that sorts after {@code person}.
+     */
+    private int upperBoundOf(Person person) {
+        int low = 0;
+        int high = persons.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(persons.get(mid), person) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of {@code person}, which must be in the list.
+     * Only persons that tie with {@code person} are compared for equality.
+     */
+    private int positionOf(Person person) {
+        for (int i = lowerBoundOf(person); i < persons.size() && comparator.compare(persons.get(i), person) == 0; i++) {
+            if (persons.get(i).equals(person)) {
+                return i;
+            }
+        }
+        throw new PersonNotFoundException();
+    }
+
+    /**
+     * Returns true if placing {@code person} at {@code index} keeps the list sorted.
+     */
+    private boolean fitsAt(int index, Person person) {
+        return (index == 0 || comparator.compare(persons.get(index - 1), person) <= 0)
+                && (index == persons.size() - 1 || comparator.compare(person, persons.get(index + 1)) <= 0);
+    }
+}
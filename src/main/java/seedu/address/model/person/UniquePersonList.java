@@ -3,9 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -24,6 +32,21 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by {@link Name#getIdentityKey()}, so identity checks do not need to
+ * scan the list, and by the secondary {@link PersonIndexes}, which are updated before the exposed list
+ * so that its listeners see them already up to date. The {@link FilterResultCache} is patched at the same time.
+ *
+ * The name, country and date orderings are all kept up to date, with additions and edits placed by
+ * binary search. The list exposes the ordering chosen through the last {@code sortBy...} call (by name
+ * initially), so switching between orderings never re-sorts.
+ *
+ * Each ordering is also kept separately for unarchived and archived persons, so that a {@link Partition} of the
+ * list can be shown without testing every person. The shown partition is exposed as a second list, and archiving
+ * or unarchiving a person moves it between partitions with a binary search in each.
+ *
+ * Changes made between {@link #beginBatch()} and {@link #endBatch()} are published to the exposed list
+ * as one change, so that listeners react once per batch rather than once per change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -31,22 +54,46 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private static Logger logger = Logger.getLogger("UniquePersonList");
-    private static final String BLANK_COUNTRY_CONSTANT = "\uFFFF";
+
+    // Package-private so that the sorting benchmarks exercise the same comparators.
+    static final Comparator<Person> NAME_ORDER = (p1, p2) ->
+            p1.getNameSortKey().compareTo(p2.getNameSortKey());
+    static final Comparator<Person> DATE_ORDER = (p1, p2) ->
+            Long.compare(p1.getAddedOnSortKey(), p2.getAddedOnSortKey());
+    static final Comparator<Person> COUNTRY_ORDER = (p1, p2) -> {
+        int compareByCountry = p1.getCountrySortKey().compareTo(p2.getCountrySortKey());
+        return compareByCountry != 0 ? compareByCountry : NAME_ORDER.compare(p1, p2);
+    };
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
+    private final ObservableList<Person> shownList = FXCollections.observableArrayList();
+    private final ObservableList<Person> shownUnmodifiableList = FXCollections
+            .unmodifiableObservableList(shownList);
+    private final Map<String, Person> personsByIdentity = new HashMap<>();
+    private final Map<Partition, SortedPersonList> personsByName = partitionsOrderedBy(NAME_ORDER);
+    private final Map<Partition, SortedPersonList> personsByCountry = partitionsOrderedBy(COUNTRY_ORDER);
+    private final Map<Partition, SortedPersonList> personsByDate = partitionsOrderedBy(DATE_ORDER);
+    private final List<Map<Partition, SortedPersonList>> orderings =
+            List.of(personsByName, personsByCountry, personsByDate);
+    private final PersonIndexes indexes = new PersonIndexes();
+    private final FilterResultCache filterResults = new FilterResultCache(personsByIdentity::values);
+    private Map<Partition, SortedPersonList> activeOrdering = personsByName;
+    private Partition shownPartition = Partition.ALL;
+    private int batchDepth = 0;
+    private boolean hasPendingChanges = false;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByIdentity.containsKey(identityOf(toCheck));
     }
 
     /**
-     * Adds a person to the list.
+     * Adds a person to the list, at the position given by the current ordering.
      * The person must not already exist in the list.
      */
     public void add(Person toAdd) {
@@ -54,9 +101,50 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
-        sortByName();
-        assert personsAreUnique(internalList) : "List must remain unique after add";
+        indexes.add(toAdd);
+        filterResults.add(toAdd);
+        for (Map<Partition, SortedPersonList> ordering : orderings) {
+            for (Partition partition : partitionsOf(toAdd)) {
+                int index = ordering.get(partition).add(toAdd);
+                for (ObservableList<Person> mirror : mirrorsOf(ordering, partition)) {
+                    mirror.add(index, toAdd);
+                }
+            }
+        }
+        personsByIdentity.put(identityOf(toAdd), toAdd);
+        assert isIndexConsistent() : "Indexes must stay in sync after add";
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the list, at the positions given by the current ordering.
+     * Each ordering sorts only the new persons and merges them in, instead of inserting them one by one.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicates.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<String, Person> additionsByIdentity = new HashMap<>();
+        for (Person person : toAdd) {
+            String identity = identityOf(person);
+            if (personsByIdentity.containsKey(identity) || additionsByIdentity.put(identity, person) != null) {
+                throw new DuplicatePersonException();
+            }
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+
+        for (Person person : toAdd) {
+            indexes.add(person);
+            filterResults.add(person);
+        }
+        for (Map<Partition, SortedPersonList> ordering : orderings) {
+            ordering.forEach((partition, persons) -> persons.addAll(partition.of(toAdd)));
+        }
+        personsByIdentity.putAll(additionsByIdentity);
+        if (!deferChange()) {
+            publishAll();
+        }
+        assert isIndexConsistent() : "Indexes must stay in sync after addAll";
     }
 
     /**
@@ -68,8 +156,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person storedTarget = personsByIdentity.get(identityOf(target));
+        if (!target.equals(storedTarget)) {
             logger.warning(() -> "Target person not found for setPerson: " + target);
             throw new PersonNotFoundException();
         }
@@ -79,10 +167,31 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-        logger.fine(() -> "Replaced person at index " + index + " with: " + editedPerson);
-        sortByName();
-        assert personsAreUnique(internalList) : "List must remain unique after setPerson";
+        indexes.remove(storedTarget);
+        indexes.add(editedPerson);
+        filterResults.remove(storedTarget);
+        filterResults.add(editedPerson);
+        for (Map<Partition, SortedPersonList> ordering : orderings) {
+            ordering.forEach((partition, persons) -> {
+                boolean hadTarget = partition.contains(target);
+                boolean hasEditedPerson = partition.contains(editedPerson);
+                if (hadTarget && hasEditedPerson) {
+                    int[] positions = persons.set(target, editedPerson);
+                    mirrorsOf(ordering, partition).forEach(mirror ->
+                            mirrorSet(mirror, positions[0], positions[1], editedPerson));
+                } else if (hadTarget) {
+                    int index = persons.remove(target);
+                    mirrorsOf(ordering, partition).forEach(mirror -> mirror.remove(index));
+                } else if (hasEditedPerson) {
+                    int index = persons.add(editedPerson);
+                    mirrorsOf(ordering, partition).forEach(mirror -> mirror.add(index, editedPerson));
+                }
+            });
+        }
+        personsByIdentity.remove(identityOf(target));
+        personsByIdentity.put(identityOf(editedPerson), editedPerson);
+        logger.fine(() -> "Replaced person " + target + " with: " + editedPerson);
+        assert isIndexConsistent() : "Indexes must stay in sync after setPerson";
     }
 
     /**
@@ -91,15 +200,28 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person storedPerson = personsByIdentity.get(identityOf(toRemove));
+        if (!toRemove.equals(storedPerson)) {
             throw new PersonNotFoundException();
         }
+        indexes.remove(storedPerson);
+        filterResults.remove(storedPerson);
+        for (Map<Partition, SortedPersonList> ordering : orderings) {
+            for (Partition partition : partitionsOf(toRemove)) {
+                int index = ordering.get(partition).remove(toRemove);
+                for (ObservableList<Person> mirror : mirrorsOf(ordering, partition)) {
+                    mirror.remove(index);
+                }
+            }
+        }
+        personsByIdentity.remove(identityOf(toRemove));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
-        sortByName();
+        personsByIdentity.clear();
+        personsByIdentity.putAll(replacement.personsByIdentity);
+        resetOrderings(replacement.internalList);
     }
 
     /**
@@ -112,8 +234,40 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
-        sortByName();
+        personsByIdentity.clear();
+        for (Person person : persons) {
+            personsByIdentity.put(identityOf(person), person);
+        }
+        resetOrderings(persons);
+    }
+
+    /**
+     * Returns the secondary indexes over the persons in the list.
+     */
+    public PersonIndexes getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * Returns a count that grows with every change to the persons in the list.
+     * Changing the order of the list does not change the persons, so it leaves the count as it is.
+     */
+    public long getModificationCount() {
+        return indexes.getModificationCount();
+    }
+
+    /**
+     * Returns the log of the recent changes to the persons in the list, as they are now.
+     */
+    public PersonChangeLog getChangeLog() {
+        return indexes.getChangeLog();
+    }
+
+    /**
+     * Returns the remembered results of the predicates the list was recently filtered by.
+     */
+    public FilterResultCache getFilterResults() {
+        return filterResults;
     }
 
     /**
@@ -124,46 +278,175 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Sorts the internal list alphabetically by each person's name.
+     * Returns the persons of the shown partition, in the current ordering, as an unmodifiable
+     * {@code ObservableList}. The list follows every change to the persons of that partition.
+     */
+    public ObservableList<Person> asUnmodifiableShownList() {
+        return shownUnmodifiableList;
+    }
+
+    /**
+     * Shows the persons of {@code partition} in the list returned by {@link #asUnmodifiableShownList()}.
+     * The partition is kept sorted in every ordering, so this copies its persons without testing or comparing them.
+     */
+    public void showPartition(Partition partition) {
+        requireNonNull(partition);
+        if (partition == shownPartition) {
+            return;
+        }
+        shownPartition = partition;
+        if (!deferChange()) {
+            shownList.setAll(activeOrdering.get(partition).asList());
+        }
+    }
+
+    public Partition getShownPartition() {
+        return shownPartition;
+    }
+
+    /**
+     * Orders the list alphabetically by each person's name.
+     * Subsequent additions and edits keep this ordering.
      */
     public void sortByName() {
-        internalList.sort((p1, p2) -> p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName));
+        switchOrderingTo(personsByName);
         logger.fine("Sorted by name.");
     }
 
     /**
-     * Sorts the internal list by the date each person was added.
+     * Orders the list by the date each person was added.
+     * Subsequent additions and edits keep this ordering.
      */
     public void sortByDate() {
-        internalList.sort((p1, p2) -> p1.getAddedOn().compareTo(p2.getAddedOn()));
+        switchOrderingTo(personsByDate);
         logger.fine("Sorted by added date.");
     }
 
     /**
-     * Sorts the internal list alphabetically by each person's country. Within
+     * Orders the list alphabetically by each person's country. Within
      * countries, persons are sorted by name.
      * Contacts without a country stored are pushed to the end of the list.
+     * Subsequent additions and edits keep this ordering.
      */
     public void sortByCountry() {
-        internalList.sort((p1, p2) -> {
-            String c1 = countryKey(p1);
-            String c2 = countryKey(p2);
-            int compareByCountry = c1.compareTo(c2);
-            if (compareByCountry != 0) {
-                return compareByCountry;
-            } else {
-                return p1.getName().fullName.compareToIgnoreCase(p2.getName().fullName);
-            }
-        });
+        switchOrderingTo(personsByCountry);
         logger.fine("Sorted by country (then name).");
     }
 
-    private String countryKey(Person p) {
-        Country c = p.getCountry();
-        if (c.equals(new Country("")) || c.toString().isBlank()) {
-            return BLANK_COUNTRY_CONSTANT;
+    /**
+     * Makes {@code ordering} the order of the exposed list.
+     * All orderings are kept up to date, so this copies the already sorted persons without comparing them.
+     */
+    private void switchOrderingTo(Map<Partition, SortedPersonList> ordering) {
+        if (ordering == activeOrdering) {
+            return;
+        }
+        activeOrdering = ordering;
+        if (!deferChange()) {
+            publishAll();
+        }
+    }
+
+    private void resetOrderings(List<Person> persons) {
+        indexes.setAll(persons);
+        filterResults.clear();
+        for (Map<Partition, SortedPersonList> ordering : orderings) {
+            ordering.forEach((partition, sortedPersons) -> sortedPersons.setAll(partition.of(persons)));
+        }
+        if (!deferChange()) {
+            publishAll();
+        }
+    }
+
+    /**
+     * Starts a batch of changes. Until the matching {@link #endBatch()}, changes update the indexes and
+     * orderings but are not applied to the exposed list.
+     * Batches may be nested; only the outermost {@code endBatch()} publishes the changes.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch of changes started by {@link #beginBatch()}.
+     * When the outermost batch ends, all of its changes are published to the exposed list as a single change.
+     */
+    public void endBatch() {
+        assert batchDepth > 0 : "endBatch() called without a matching beginBatch()";
+        batchDepth--;
+        if (batchDepth == 0 && hasPendingChanges) {
+            hasPendingChanges = false;
+            publishAll();
+        }
+    }
+
+    /**
+     * Returns true if the current change should not be applied to the exposed list yet, because a batch is open.
+     */
+    private boolean deferChange() {
+        if (batchDepth == 0) {
+            return false;
+        }
+        hasPendingChanges = true;
+        return true;
+    }
+
+    /**
+     * Copies the active ordering onto both exposed lists.
+     */
+    private void publishAll() {
+        internalList.setAll(activeOrdering.get(Partition.ALL).asList());
+        shownList.setAll(activeOrdering.get(shownPartition).asList());
+    }
+
+    /**
+     * Returns the exposed lists that a change to {@code partition} of {@code ordering} must be applied onto.
+     * None are returned while a batch is open.
+     */
+    private List<ObservableList<Person>> mirrorsOf(Map<Partition, SortedPersonList> ordering, Partition partition) {
+        boolean isMirrored = ordering == activeOrdering
+                && (partition == Partition.ALL || partition == shownPartition);
+        if (!isMirrored || deferChange()) {
+            return List.of();
         }
-        return c.toString().toLowerCase(Locale.ROOT);
+        List<ObservableList<Person>> mirrors = new ArrayList<>(2);
+        if (partition == Partition.ALL) {
+            mirrors.add(internalList);
+        }
+        if (partition == shownPartition) {
+            mirrors.add(shownList);
+        }
+        return mirrors;
+    }
+
+    /**
+     * Applies a move of {@code editedPerson} from {@code oldIndex} to {@code newIndex} onto {@code mirror}.
+     */
+    private static void mirrorSet(ObservableList<Person> mirror, int oldIndex, int newIndex, Person editedPerson) {
+        if (oldIndex == newIndex) {
+            mirror.set(oldIndex, editedPerson);
+        } else {
+            mirror.remove(oldIndex);
+            mirror.add(newIndex, editedPerson);
+        }
+    }
+
+    /**
+     * Returns the partitions {@code person} belongs to: every person is in {@link Partition#ALL}, and in
+     * exactly one of the others.
+     */
+    private static List<Partition> partitionsOf(Person person) {
+        return person.getArchivalStatus()
+                ? List.of(Partition.ALL, Partition.ARCHIVED)
+                : List.of(Partition.ALL, Partition.UNARCHIVED);
+    }
+
+    private static Map<Partition, SortedPersonList> partitionsOrderedBy(Comparator<Person> comparator) {
+        Map<Partition, SortedPersonList> partitions = new EnumMap<>(Partition.class);
+        for (Partition partition : Partition.values()) {
+            partitions.put(partition, new SortedPersonList(comparator));
+        }
+        return partitions;
     }
 
     @Override
@@ -196,17 +479,60 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private static String identityOf(Person person) {
+        return person.getName().getIdentityKey();
+    }
+
+    /**
+     * Returns true if the identity index and every ordering hold exactly one entry per person in the list.
+     */
+    private boolean isIndexConsistent() {
+        int size = personsByIdentity.size();
+        return (batchDepth > 0 || size == internalList.size())
+                && orderings.stream().allMatch(ordering -> ordering.get(Partition.ALL).asList().size() == size
+                        && ordering.get(Partition.UNARCHIVED).asList().size()
+                                + ordering.get(Partition.ARCHIVED).asList().size() == size);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> seenIdentities = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenIdentities.add(identityOf(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * A part of the list that can be shown on its own, by archival status.
+     */
+    public enum Partition {
+        ALL(person -> true),
+        UNARCHIVED(person -> !person.getArchivalStatus()),
+        ARCHIVED(Person::getArchivalStatus);
+
+        private final Predicate<Person> membership;
+
+        Partition(Predicate<Person> membership) {
+            this.membership = membership;
+        }
+
+        /**
+         * Returns true if {@code person} belongs to this partition.
+         */
+        public boolean contains(Person person) {
+            return membership.test(person);
+        }
+
+        /**
+         * Returns the persons of {@code persons} that belong to this partition.
+         */
+        Collection<Person> of(Collection<Person> persons) {
+            return this == ALL ? persons : persons.stream().filter(membership).toList();
+        }
+    }
 }
@@ -0,0 +1,101 @@
+package seedu.address.model.person.query;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * A query matching persons that match every one of its parts.
+ * It is planned by ordering the parts from the most to the least selective: the persons matching the first part
+ * are found from the indexes, and the remaining parts are only tested on those.
+ */
+class AndQuery extends PersonQuery {
+
+    private final List<PersonQuery> parts;
+
+    AndQuery(List<PersonQuery> parts) {
+        this.parts = List.copyOf(parts);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return parts.stream().allMatch(part -> part.test(person));
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return parts.stream().anyMatch(PersonQuery::isIndexed);
+    }
+
+    @Override
+    int estimate(PersonIndexes indexes) {
+        return parts.stream().mapToInt(part -> part.estimate(indexes)).min().orElse(UNBOUNDED);
+    }
+
+    @Override
+    Set<Person> find(PersonIndexes indexes) {
+        if (!isIndexed()) {
+            return null;
+        }
+        List<PersonQuery> plan = mostSelectiveFirst(indexes);
+        Set<Person> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        found.addAll(plan.get(0).find(indexes));
+        for (int i = 1; i < plan.size() && !found.isEmpty(); i++) {
+            Predicate<Person> part = plan.get(i).bindTo(indexes);
+            found.removeIf(part.negate());
+        }
+        return found;
+    }
+
+    @Override
+    Predicate<Person> bindTo(PersonIndexes indexes) {
+        List<Predicate<Person>> plan = mostSelectiveFirst(indexes).stream()
+                .map(part -> part.bindTo(indexes))
+                .toList();
+        return person -> {
+            for (Predicate<Person> part : plan) {
+                if (!part.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * Returns the parts ordered by their estimates in {@code indexes}, smallest first.
+     * Parts that cannot be estimated come last, in the order given.
+     */
+    private List<PersonQuery> mostSelectiveFirst(PersonIndexes indexes) {
+        int[] estimates = parts.stream().mapToInt(part -> part.estimate(indexes)).toArray();
+        return IntStream.range(0, parts.size())
+                .boxed()
+                .sorted(Comparator.comparingInt(i -> estimates[i]))
+                .map(parts::get)
+                .toList();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof AndQuery && parts.equals(((AndQuery) other).parts));
+    }
+
+    @Override
+    public int hashCode() {
+        return parts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return parts.stream().map(PersonQuery::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
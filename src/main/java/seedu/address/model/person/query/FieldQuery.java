@@ -0,0 +1,89 @@
+package seedu.address.model.person.query;
+
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * A query on a single field of a person, such as {@code tag:vip}.
+ * A term on an indexed field also knows how to count, find and look up its matches in the indexes.
+ * Terms are equal if their descriptions are, so each description must identify what the term matches.
+ */
+class FieldQuery extends PersonQuery {
+
+    private final String description;
+    private final Predicate<Person> test;
+    private final ToIntFunction<PersonIndexes> count;
+    private final Function<PersonIndexes, Set<Person>> find;
+    private final Function<PersonIndexes, Predicate<Person>> lookup;
+
+    private FieldQuery(String description, Predicate<Person> test, ToIntFunction<PersonIndexes> count,
+            Function<PersonIndexes, Set<Person>> find, Function<PersonIndexes, Predicate<Person>> lookup) {
+        this.description = description;
+        this.test = test;
+        this.count = count;
+        this.find = find;
+        this.lookup = lookup;
+    }
+
+    /**
+     * Creates a term on an indexed field, whose matches are counted by {@code count}, found by {@code find}
+     * and looked up person by person by the predicate from {@code lookup}.
+     */
+    static FieldQuery indexed(String description, Predicate<Person> test, ToIntFunction<PersonIndexes> count,
+            Function<PersonIndexes, Set<Person>> find, Function<PersonIndexes, Predicate<Person>> lookup) {
+        return new FieldQuery(description, test, count, find, lookup);
+    }
+
+    /**
+     * Creates a term on a field that is not indexed, so every person must be tested with {@code test}.
+     */
+    static FieldQuery scanned(String description, Predicate<Person> test) {
+        return new FieldQuery(description, test, null, null, null);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return test.test(person);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return count != null;
+    }
+
+    @Override
+    int estimate(PersonIndexes indexes) {
+        return isIndexed() ? count.applyAsInt(indexes) : UNBOUNDED;
+    }
+
+    @Override
+    Set<Person> find(PersonIndexes indexes) {
+        return isIndexed() ? find.apply(indexes) : null;
+    }
+
+    @Override
+    Predicate<Person> bindTo(PersonIndexes indexes) {
+        return isIndexed() ? lookup.apply(indexes) : test;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof FieldQuery && description.equals(((FieldQuery) other).description));
+    }
+
+    @Override
+    public int hashCode() {
+        return description.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
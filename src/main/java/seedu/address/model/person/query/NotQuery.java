@@ -0,0 +1,62 @@
+package seedu.address.model.person.query;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * A query matching persons that do not match its part.
+ * Its matches are never found from the indexes, as they would have to be all the persons outside them,
+ * but inside a conjunction it only filters the candidates of the other parts.
+ */
+class NotQuery extends PersonQuery {
+
+    private final PersonQuery part;
+
+    NotQuery(PersonQuery part) {
+        this.part = part;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !part.test(person);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return false;
+    }
+
+    @Override
+    int estimate(PersonIndexes indexes) {
+        return UNBOUNDED;
+    }
+
+    @Override
+    Set<Person> find(PersonIndexes indexes) {
+        return null;
+    }
+
+    @Override
+    Predicate<Person> bindTo(PersonIndexes indexes) {
+        return part.bindTo(indexes).negate();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof NotQuery && part.equals(((NotQuery) other).part));
+    }
+
+    @Override
+    public int hashCode() {
+        return ~part.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + part;
+    }
+}
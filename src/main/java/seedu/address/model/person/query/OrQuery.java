@@ -0,0 +1,82 @@
+package seedu.address.model.person.query;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * A query matching persons that match any of its parts.
+ * It can only be answered from the indexes if every part can, in which case its matches are the union of theirs.
+ */
+class OrQuery extends PersonQuery {
+
+    private final List<PersonQuery> parts;
+
+    OrQuery(List<PersonQuery> parts) {
+        this.parts = List.copyOf(parts);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return parts.stream().anyMatch(part -> part.test(person));
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return parts.stream().allMatch(PersonQuery::isIndexed);
+    }
+
+    @Override
+    int estimate(PersonIndexes indexes) {
+        if (!isIndexed()) {
+            return UNBOUNDED;
+        }
+        long total = parts.stream().mapToLong(part -> part.estimate(indexes)).sum();
+        return (int) Math.min(total, UNBOUNDED - 1);
+    }
+
+    @Override
+    Set<Person> find(PersonIndexes indexes) {
+        if (!isIndexed()) {
+            return null;
+        }
+        Set<Person> found = Collections.newSetFromMap(new IdentityHashMap<>());
+        parts.forEach(part -> found.addAll(part.find(indexes)));
+        return found;
+    }
+
+    @Override
+    Predicate<Person> bindTo(PersonIndexes indexes) {
+        List<Predicate<Person>> boundParts = parts.stream().map(part -> part.bindTo(indexes)).toList();
+        return person -> {
+            for (Predicate<Person> part : boundParts) {
+                if (part.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof OrQuery && parts.equals(((OrQuery) other).parts));
+    }
+
+    @Override
+    public int hashCode() {
+        return parts.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return parts.stream().map(PersonQuery::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
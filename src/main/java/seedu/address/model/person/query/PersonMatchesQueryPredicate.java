@@ -0,0 +1,69 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.IndexedPersonPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * Tests that a {@code Person} matches a {@code PersonQuery}.
+ * Against an address book, an indexed query is answered by planning it against the indexes, and the plan is only
+ * run again after the address book changes. Any other query is tested person by person, with its terms on
+ * indexed fields looked up in the indexes.
+ */
+public class PersonMatchesQueryPredicate implements IndexedPersonPredicate {
+
+    private final PersonQuery query;
+
+    /**
+     * Creates a predicate matching the persons that match {@code query}.
+     */
+    public PersonMatchesQueryPredicate(PersonQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return query.test(person);
+    }
+
+    @Override
+    public Predicate<Person> bindTo(PersonIndexes indexes) {
+        if (!query.isIndexed()) {
+            return query.bindTo(indexes);
+        }
+        return indexes.foundBy(() -> query.find(indexes));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonMatchesQueryPredicate)) {
+            return false;
+        }
+
+        PersonMatchesQueryPredicate otherPredicate = (PersonMatchesQueryPredicate) other;
+        return query.equals(otherPredicate.query);
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .toString();
+    }
+}
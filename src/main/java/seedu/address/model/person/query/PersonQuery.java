@@ -0,0 +1,193 @@
+package seedu.address.model.person.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Offset;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.CommunicationChannel;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A boolean expression over the fields of a {@code Person}, such as {@code tag:vip AND NOT archived}.
+ *
+ * Besides testing a single person, a query can be planned against the {@link PersonIndexes} of an address book.
+ * Terms on indexed fields (name words, tags, countries and organisations) estimate how many persons they match
+ * from the index counts. A conjunction starts from its most selective term and only tests its other terms on
+ * the candidates found, so that a query with at least one indexed term in every branch never tests every person.
+ */
+public abstract class PersonQuery {
+
+    /** The estimate of a query that cannot be answered from the indexes alone. */
+    static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    /**
+     * Returns true if {@code person} matches this query, judging by its fields alone.
+     */
+    public abstract boolean test(Person person);
+
+    /**
+     * Returns true if this query can be answered from the indexes without testing every person.
+     * This depends only on the terms of the query, not on the contents of the indexes.
+     */
+    public abstract boolean isIndexed();
+
+    /**
+     * Returns an upper bound on the number of persons in {@code indexes} that match this query,
+     * or {@link #UNBOUNDED} if the query is not {@link #isIndexed() indexed}.
+     */
+    abstract int estimate(PersonIndexes indexes);
+
+    /**
+     * Returns the persons in {@code indexes} that match this query, or null if the query is unbounded.
+     * The returned set must not be modified.
+     */
+    abstract Set<Person> find(PersonIndexes indexes);
+
+    /**
+     * Returns a predicate that gives the same result as {@link #test(Person)} for every person indexed by
+     * {@code indexes}, looking terms on indexed fields up in the indexes.
+     */
+    abstract Predicate<Person> bindTo(PersonIndexes indexes);
+
+    /**
+     * Returns a query matching persons with a name containing {@code word} as a whole word, ignoring case.
+     */
+    public static PersonQuery nameWord(String word) {
+        requireNonNull(word);
+        return FieldQuery.indexed("name:" + word.trim(),
+                person -> StringUtil.containsWordIgnoreCase(person.getName().fullName, word),
+                indexes -> indexes.countWithNameWord(word),
+                indexes -> indexes.withAnyNameWord(List.of(word)),
+                indexes -> indexes.namedWithAny(List.of(word)));
+    }
+
+    /**
+     * Returns a query matching persons tagged with {@code tag}.
+     */
+    public static PersonQuery tag(Tag tag) {
+        requireNonNull(tag);
+        return FieldQuery.indexed("tag:" + tag.tagName,
+                person -> person.getTags().contains(tag),
+                indexes -> indexes.countWithTag(tag),
+                indexes -> indexes.withAllTags(List.of(tag)),
+                indexes -> indexes.taggedWithAll(List.of(tag)));
+    }
+
+    /**
+     * Returns a query matching persons from {@code country}.
+     */
+    public static PersonQuery country(Country country) {
+        requireNonNull(country);
+        return FieldQuery.indexed("country:" + country.value,
+                person -> country.equals(person.getCountry()),
+                indexes -> indexes.countWithCountry(country),
+                indexes -> indexes.withCountry(country),
+                indexes -> indexes.fromCountry(country));
+    }
+
+    /**
+     * Returns a query matching persons whose organisation is exactly {@code organisation}.
+     */
+    public static PersonQuery organisation(String organisation) {
+        requireNonNull(organisation);
+        return FieldQuery.indexed("organisation:" + organisation,
+                person -> person.getOrganisation() != null && person.getOrganisation().value.equals(organisation),
+                indexes -> indexes.countWithOrganisation(organisation),
+                indexes -> indexes.withOrganisation(organisation),
+                indexes -> indexes.inOrganisation(organisation));
+    }
+
+    /**
+     * Returns a query matching persons who prefer {@code language}.
+     */
+    public static PersonQuery language(PreferredLanguage language) {
+        requireNonNull(language);
+        return FieldQuery.scanned("language:" + language.language,
+                person -> language.equals(person.getPreferredLanguage()));
+    }
+
+    /**
+     * Returns a query matching persons who prefer to be contacted by {@code channel}.
+     */
+    public static PersonQuery channel(CommunicationChannel channel) {
+        requireNonNull(channel);
+        return FieldQuery.scanned("channel:" + channel,
+                person -> person.getPreferredChannel() == channel);
+    }
+
+    /**
+     * Returns a query matching persons with the GMT offset {@code offset}.
+     */
+    public static PersonQuery offset(Offset offset) {
+        requireNonNull(offset);
+        return FieldQuery.scanned("offset:" + offset.value,
+                person -> person.getOffset().getTotalMinutes() == offset.getTotalMinutes());
+    }
+
+    /**
+     * Returns a query matching persons added on {@code date}.
+     */
+    public static PersonQuery addedOn(LocalDate date) {
+        requireNonNull(date);
+        return FieldQuery.scanned("addedon:" + date,
+                person -> person.getAddedOn().localDateTime.toLocalDate().equals(date));
+    }
+
+    /**
+     * Returns a query matching persons added before {@code date}.
+     */
+    public static PersonQuery addedBefore(LocalDate date) {
+        requireNonNull(date);
+        return FieldQuery.scanned("addedon<" + date,
+                person -> person.getAddedOn().localDateTime.toLocalDate().isBefore(date));
+    }
+
+    /**
+     * Returns a query matching persons added after {@code date}.
+     */
+    public static PersonQuery addedAfter(LocalDate date) {
+        requireNonNull(date);
+        return FieldQuery.scanned("addedon>" + date,
+                person -> person.getAddedOn().localDateTime.toLocalDate().isAfter(date));
+    }
+
+    /**
+     * Returns a query matching archived persons.
+     */
+    public static PersonQuery archived() {
+        return FieldQuery.scanned("archived", Person::getArchivalStatus);
+    }
+
+    /**
+     * Returns a query matching persons that match every one of {@code queries}.
+     */
+    public static PersonQuery and(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        return queries.size() == 1 ? queries.get(0) : new AndQuery(queries);
+    }
+
+    /**
+     * Returns a query matching persons that match any of {@code queries}.
+     */
+    public static PersonQuery or(List<PersonQuery> queries) {
+        requireNonNull(queries);
+        return queries.size() == 1 ? queries.get(0) : new OrQuery(queries);
+    }
+
+    /**
+     * Returns a query matching persons that do not match {@code query}.
+     */
+    public static PersonQuery not(PersonQuery query) {
+        requireNonNull(query);
+        return new NotQuery(query);
+    }
+}
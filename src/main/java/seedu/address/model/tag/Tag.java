@@ -3,9 +3,15 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags are few compared to the persons tagged with them, so {@link #of(String)} returns one shared instance
+ * per tag name, and equal tags created through it are the same instance.
+ * Tag names are free text, so a tag no person has any more is not kept.
  */
 public class Tag {
 
@@ -14,7 +20,7 @@ public class Tag {
     public static final String VALIDATION_REGEX = "[\\p{Alnum} ,+]+";
     public static final int MAX_LENGTH = 30;
 
-
+    private static final WeakInterner<Tag> INTERNED = new WeakInterner<>(Tag::new);
 
     public final String tagName;
 
@@ -29,6 +35,16 @@ public class Tag {
         this.tagName = tagName;
     }
 
+    /**
+     * Returns the shared {@code Tag} named {@code tagName}, creating it on first use.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return INTERNED.intern(tagName);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
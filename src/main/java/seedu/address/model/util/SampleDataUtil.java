@@ -29,10 +29,10 @@ public class SampleDataUtil {
     public static Person[] getSamplePersons() {
         return new Person[]{
             new Person(new Name("Alex Yeoh"), new Phone("+6587438807"), new Email("alexyeoh@example.com"),
-                    new Address("Blk 30 Geylang Street 29, #06-40"), new Country("Singapore"),
-                    new Organisation("National University of Singapore (NUS)"), new Event("University Assembly"),
+                    new Address("Blk 30 Geylang Street 29, #06-40"), Country.of("Singapore"),
+                    Organisation.of("National University of Singapore (NUS)"), new Event("University Assembly"),
                     new Note("follows Chinese Traditions"), Person.CommunicationChannel.EMAIL,
-                    getTagSet("friends"), new Offset("+08:00"), new PreferredLanguage("english"),
+                    getTagSet("friends"), Offset.of("+08:00"), PreferredLanguage.of("english"),
                     new AddedOn(LocalDateTime.now()), false)
         };
     }
@@ -50,7 +50,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeLog;
+
+/**
+ * An unmodifiable copy of the persons of an address book, as they were when it was taken.
+ * Persons are immutable, so a snapshot can be written on another thread while the address book changes.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final boolean hasAllArchivedPersons;
+    private final PersonChangeLog changeLog;
+
+    /**
+     * Takes a snapshot of the persons of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+        hasAllArchivedPersons = source.hasAllArchivedPersons();
+        changeLog = source.getChangeLog();
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public boolean hasAllArchivedPersons() {
+        return hasAllArchivedPersons;
+    }
+
+    @Override
+    public PersonChangeLog getChangeLog() {
+        return changeLog;
+    }
+}
@@ -2,10 +2,12 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,8 +32,27 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns AddressBook data as a {@link ReadOnlyAddressBook}, without the archived persons that are stored
+     * apart from the rest. The returned address book has all its archived persons only if none are stored apart.
+     * Returns {@code Optional.empty()} if storage file is not found.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     * @see #readArchivedPersons()
+     */
+    Optional<ReadOnlyAddressBook> readUnarchivedAddressBook() throws DataLoadingException;
+
+    /**
+     * Returns the archived persons that are stored apart from the rest of the AddressBook data.
+     * Returns an empty list if there are none. May be called from a background thread.
+     *
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    List<Person> readArchivedPersons() throws DataLoadingException;
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
+     * If the address book does not have all its archived persons, the archived persons stored apart are kept.
      * @param addressBook cannot be null.
      * @throws IOException if there was any problem writing to the file.
      */
@@ -42,4 +63,13 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Waits until every address book saved so far has been written to its file, and closes the files kept open
+     * for writing. Storages that write each address book before returning from the save have nothing to wait for.
+     *
+     * @throws IOException if the last address book saved could not be written.
+     */
+    default void flush() throws IOException {
+    }
+
 }
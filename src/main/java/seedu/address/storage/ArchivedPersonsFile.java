@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * The cold tier of an address book data file: the archived persons, kept in a file of their own next to it
+ * with one JSON person per line, so that they can be read after the rest of the data and added to without
+ * rewriting the file.
+ *
+ * The file remembers which person instances it is known to hold, so that a save only appends the persons
+ * archived since, and rewrites the file only once a person it holds is no longer archived.
+ * A person may be left in both this file and the data file by a save that did not complete, in which case
+ * the copy in the data file is the one kept.
+ */
+class ArchivedPersonsFile {
+
+    private static final Logger logger = LogsCenter.getLogger(ArchivedPersonsFile.class);
+    private static final String EXTENSION = ".json";
+    private static final String ARCHIVE_SUFFIX = ".archived.jsonl";
+
+    private final Path filePath;
+    private final Set<Person> storedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean isFullyKnown;
+
+    /**
+     * Creates the cold tier of the address book data file at {@code addressBookFilePath}.
+     */
+    ArchivedPersonsFile(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        filePath = pathFor(addressBookFilePath);
+        isFullyKnown = !Files.exists(filePath);
+    }
+
+    /**
+     * Returns the path of the cold tier of the address book data file at {@code addressBookFilePath}.
+     */
+    static Path pathFor(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        String stem = fileName.endsWith(EXTENSION)
+                ? fileName.substring(0, fileName.length() - EXTENSION.length())
+                : fileName;
+        return addressBookFilePath.resolveSibling(stem + ARCHIVE_SUFFIX);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads and validates the persons in the file.
+     *
+     * Of the duplicate persons left in the file by saves that did not complete, the last one is kept.
+     *
+     * @return the persons in file order, or an empty list if the file does not exist.
+     * @throws DataLoadingException if the file cannot be read, or holds invalid persons.
+     */
+    synchronized List<Person> read() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            isFullyKnown = true;
+            return List.of();
+        }
+
+        Map<String, Person> persons = new LinkedHashMap<>();
+        boolean hasDuplicates = false;
+        JsonProcessingException incompleteLastPerson = null;
+        try {
+            try (BufferedReader reader = Files.newBufferedReader(filePath)) {
+                String line = reader.readLine();
+                while (line != null) {
+                    String nextLine = reader.readLine();
+                    if (!line.isBlank()) {
+                        JsonAdaptedPerson adaptedPerson;
+                        try {
+                            adaptedPerson = JsonUtil.fromJsonString(line, JsonAdaptedPerson.class);
+                        } catch (JsonProcessingException e) {
+                            if (nextLine != null) {
+                                throw e;
+                            }
+                            incompleteLastPerson = e;
+                            break;
+                        }
+                        Person person = adaptedPerson.toModelType();
+                        if (persons.put(person.getName().getIdentityKey(), person) != null) {
+                            hasDuplicates = true;
+                            logger.warning("Kept the last of the duplicate archived persons "
+                                    + person.getName() + " in " + filePath);
+                        }
+                    }
+                    line = nextLine;
+                }
+            }
+            if (incompleteLastPerson != null) {
+                if (!FileUtil.truncateIncompleteLastLine(filePath)) {
+                    throw incompleteLastPerson;
+                }
+                logger.warning("Discarded incomplete last person of archive file " + filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from archive file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+
+        storedPersons.addAll(persons.values());
+        // a file holding duplicates is rewritten by the next complete save
+        isFullyKnown = !hasDuplicates;
+        return new ArrayList<>(persons.values());
+    }
+
+    /**
+     * Appends the persons of {@code archivedPersons} that are not already in the file.
+     * This only ever adds persons to the file, so it is done before the data file drops them.
+     */
+    synchronized void saveAdditions(Collection<Person> archivedPersons) throws IOException {
+        List<Person> additions = archivedPersons.stream()
+                .filter(person -> !storedPersons.contains(person))
+                .toList();
+        if (!additions.isEmpty()) {
+            append(additions);
+        }
+    }
+
+    /**
+     * Rewrites the file with only {@code archivedPersons} if it holds other persons, provided that
+     * {@code isComplete} is true, in which case {@code archivedPersons} are all the archived persons of the
+     * address book. The persons in the file that are not known to this object are otherwise kept.
+     * This drops persons from the file, so it is done after the data file has gained them.
+     */
+    synchronized void saveRemovals(Collection<Person> archivedPersons, boolean isComplete) throws IOException {
+        if (!isComplete) {
+            return;
+        }
+        long storedPersonsKept = archivedPersons.stream().filter(storedPersons::contains).count();
+        if (!isFullyKnown || storedPersonsKept < storedPersons.size()) {
+            rewrite(archivedPersons);
+        }
+    }
+
+    private void append(List<Person> additions) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardOpenOption.APPEND)) {
+            writeLines(writer, additions);
+        }
+        storedPersons.addAll(additions);
+        logger.fine(() -> "Appended " + additions.size() + " archived persons to " + filePath);
+    }
+
+    private void rewrite(Collection<Person> archivedPersons) throws IOException {
+        if (archivedPersons.isEmpty() && !Files.exists(filePath)) {
+            storedPersons.clear();
+            isFullyKnown = true;
+            return;
+        }
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFile = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile)) {
+            writeLines(writer, archivedPersons);
+        }
+        FileUtil.replaceAtomically(tempFile, filePath);
+        storedPersons.clear();
+        storedPersons.addAll(archivedPersons);
+        isFullyKnown = true;
+        logger.fine(() -> "Rewrote " + filePath + " with " + archivedPersons.size() + " archived persons");
+    }
+
+    private static void writeLines(BufferedWriter writer, Collection<Person> persons) throws IOException {
+        for (Person person : persons) {
+            writer.write(JsonUtil.toJsonLine(new JsonAdaptedPerson(person)));
+            writer.newLine();
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.TreeNode;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Streams contacts from a CSV or JSON file, validating each one with the same rules as the address book data file.
+ * Records are read in chunks of at most {@link #CHUNK_SIZE}, and the records of a chunk are validated in parallel.
+ *
+ * A JSON file holds either an array of persons or, like the address book data file, an object with a
+ * {@code persons} array. A CSV file starts with a header row naming the person fields, with tags separated by
+ * {@code ;} in the {@code tags} column. Both use the field names of {@link JsonAdaptedPerson}.
+ * Unknown fields and columns are ignored.
+ */
+public abstract class ContactFileReader implements Closeable {
+
+    public static final int CHUNK_SIZE = 4096;
+
+    public static final String MESSAGE_UNSUPPORTED_FORMAT = "Only .csv and .json files can be imported.";
+    public static final String MESSAGE_NO_PERSONS = "Expected a JSON array of persons, "
+            + "or an object with a \"persons\" array.";
+    public static final String MESSAGE_NOT_A_PERSON = "Expected a person but found null.";
+    public static final String MESSAGE_EMPTY_CSV = "The CSV file has no header row.";
+    public static final String MESSAGE_MISSING_COLUMNS = "The CSV header must have the columns: %1$s";
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "Expected %1$d fields but found %2$d.";
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "Unterminated quoted field starting on line %1$d.";
+
+    private static final String CSV_EXTENSION = ".csv";
+    private static final String JSON_EXTENSION = ".json";
+
+    /**
+     * Returns true if {@code file} has an extension that can be read.
+     */
+    public static boolean isSupported(Path file) {
+        requireNonNull(file);
+        return isCsv(file) || isJson(file);
+    }
+
+    /**
+     * Opens a reader over {@code file}, choosing CSV or JSON by its extension.
+     *
+     * @throws IOException if the file cannot be opened, or does not start the way its format requires.
+     */
+    public static ContactFileReader open(Path file) throws IOException {
+        requireNonNull(file);
+        if (isCsv(file)) {
+            return new CsvReader(file);
+        }
+        if (isJson(file)) {
+            return new JsonReader(file);
+        }
+        throw new IllegalArgumentException(MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    private static boolean isCsv(Path file) {
+        return file.toString().toLowerCase(Locale.ROOT).endsWith(CSV_EXTENSION);
+    }
+
+    private static boolean isJson(Path file) {
+        return file.toString().toLowerCase(Locale.ROOT).endsWith(JSON_EXTENSION);
+    }
+
+    /**
+     * Reads and validates the next chunk of records.
+     * Records that violate the data constraints are returned as invalid rows rather than failing the chunk.
+     *
+     * @return the rows of the chunk in file order, or an empty list once the file is exhausted.
+     * @throws IOException if the file cannot be read or is not well-formed.
+     */
+    public List<Row> readChunk() throws IOException {
+        List<PendingRow> pending = new ArrayList<>(CHUNK_SIZE);
+        PendingRow next;
+        while (pending.size() < CHUNK_SIZE && (next = nextRecord()) != null) {
+            pending.add(next);
+        }
+        return pending.parallelStream()
+                .map(PendingRow::convert)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Reads the next record without validating it.
+     *
+     * @return the record, or null once the file is exhausted.
+     */
+    abstract PendingRow nextRecord() throws IOException;
+
+    /**
+     * A record of the file, validated into either a {@code Person} or an error message.
+     */
+    public static final class Row {
+        private final int rowNumber;
+        private final Person person;
+        private final String error;
+
+        private Row(int rowNumber, Person person, String error) {
+            this.rowNumber = rowNumber;
+            this.person = person;
+            this.error = error;
+        }
+
+        /**
+         * Returns the position of the record: its line number in a CSV file, or its position in a JSON array.
+         */
+        public int getRowNumber() {
+            return rowNumber;
+        }
+
+        public boolean isValid() {
+            return person != null;
+        }
+
+        /**
+         * Returns the validated person, or null if the record is invalid.
+         */
+        public Person getPerson() {
+            return person;
+        }
+
+        /**
+         * Returns why the record is invalid, or null if it is valid.
+         */
+        public String getError() {
+            return error;
+        }
+    }
+
+    /**
+     * Converts a record into a {@code Person}.
+     */
+    @FunctionalInterface
+    interface RecordConverter {
+        Person convert() throws IllegalValueException, JsonProcessingException;
+    }
+
+    /**
+     * A record that has been read but not yet validated.
+     */
+    static final class PendingRow {
+        private final int rowNumber;
+        private final RecordConverter converter;
+
+        PendingRow(int rowNumber, RecordConverter converter) {
+            this.rowNumber = rowNumber;
+            this.converter = converter;
+        }
+
+        Row convert() {
+            try {
+                return new Row(rowNumber, converter.convert(), null);
+            } catch (IllegalValueException e) {
+                return new Row(rowNumber, null, e.getMessage());
+            } catch (JsonProcessingException e) {
+                return new Row(rowNumber, null, e.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads persons one at a time from a JSON file.
+     */
+    private static class JsonReader extends ContactFileReader {
+        private final JsonParser parser;
+        private int rowNumber = 0;
+        private boolean isExhausted = false;
+
+        JsonReader(Path file) throws IOException {
+            parser = JsonUtil.createParser(file);
+            try {
+                moveToPersons();
+            } catch (IOException e) {
+                parser.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Moves the parser to the start of the persons array.
+         */
+        private void moveToPersons() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.START_ARRAY) {
+                return;
+            }
+            if (token == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.getCurrentName();
+                    if (parser.nextToken() == JsonToken.START_ARRAY && field.equals("persons")) {
+                        return;
+                    }
+                    parser.skipChildren();
+                }
+            }
+            throw new IOException(MESSAGE_NO_PERSONS);
+        }
+
+        @Override
+        PendingRow nextRecord() throws IOException {
+            if (isExhausted) {
+                return null;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                isExhausted = true;
+                return null;
+            }
+
+            rowNumber++;
+            TreeNode node = parser.readValueAsTree();
+            ObjectCodec codec = parser.getCodec();
+            return new PendingRow(rowNumber, () -> {
+                JsonAdaptedPerson person = codec.treeToValue(node, JsonAdaptedPerson.class);
+                if (person == null) {
+                    throw new IllegalValueException(MESSAGE_NOT_A_PERSON);
+                }
+                return person.toModelType();
+            });
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    /**
+     * Reads persons one row at a time from a CSV file with a header row.
+     * Fields follow RFC 4180: they may be quoted, and quoted fields may contain commas, line breaks and
+     * doubled quotes.
+     */
+    private static class CsvReader extends ContactFileReader {
+        private static final List<String> REQUIRED_COLUMNS = List.of("name", "phone", "email", "address");
+        private static final String TAG_SEPARATOR = ";";
+        private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private int columnCount;
+        private int linesRead = 0;
+        private int recordLineNumber = 0;
+
+        CsvReader(Path file) throws IOException {
+            reader = Files.newBufferedReader(file);
+            try {
+                readHeader();
+            } catch (IOException e) {
+                reader.close();
+                throw e;
+            }
+        }
+
+        private void readHeader() throws IOException {
+            List<String> header = nextFields();
+            if (header == null) {
+                throw new IOException(MESSAGE_EMPTY_CSV);
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String column = header.get(i).trim();
+                if (i == 0 && !column.isEmpty() && column.charAt(0) == BYTE_ORDER_MARK) {
+                    column = column.substring(1);
+                }
+                columns.putIfAbsent(column.toLowerCase(Locale.ROOT), i);
+            }
+            columnCount = header.size();
+            if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+                throw new IOException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", REQUIRED_COLUMNS)));
+            }
+        }
+
+        @Override
+        PendingRow nextRecord() throws IOException {
+            List<String> fields = nextFields();
+            if (fields == null) {
+                return null;
+            }
+            return new PendingRow(recordLineNumber, () -> {
+                if (fields.size() != columnCount) {
+                    throw new IllegalValueException(
+                            String.format(MESSAGE_WRONG_FIELD_COUNT, columnCount, fields.size()));
+                }
+                return toAdaptedPerson(fields).toModelType();
+            });
+        }
+
+        private JsonAdaptedPerson toAdaptedPerson(List<String> fields) {
+            List<JsonAdaptedTag> tags = new ArrayList<>();
+            String tagCell = cell(fields, "tags");
+            if (tagCell != null) {
+                for (String tagName : tagCell.split(TAG_SEPARATOR)) {
+                    if (!tagName.isBlank()) {
+                        tags.add(new JsonAdaptedTag(tagName.trim()));
+                    }
+                }
+            }
+            return new JsonAdaptedPerson(cell(fields, "name"), cell(fields, "phone"), cell(fields, "email"),
+                    cell(fields, "address"), cell(fields, "country"), cell(fields, "note"),
+                    cell(fields, "organisation"), cell(fields, "event"), cell(fields, "offset"), tags,
+                    cell(fields, "preferredlanguage"), cell(fields, "preferredchannel"), cell(fields, "addedon"),
+                    Boolean.parseBoolean(cell(fields, "archivalstatus")));
+        }
+
+        /**
+         * Returns the trimmed value of {@code column} in {@code fields}, or null if it is absent or blank.
+         */
+        private String cell(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * Returns the fields of the next non-blank record, or null at the end of the file.
+         * {@code recordLineNumber} is set to the line the record starts on.
+         */
+        private List<String> nextFields() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+                linesRead++;
+            } while (line.isBlank());
+
+            recordLineNumber = linesRead;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean isQuoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!isQuoted) {
+                        break;
+                    }
+                    line = reader.readLine();
+                    if (line == null) {
+                        throw new IOException(String.format(MESSAGE_UNTERMINATED_QUOTE, recordLineNumber));
+                    }
+                    linesRead++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+
+                char c = line.charAt(i++);
+                if (isQuoted && c == '"') {
+                    if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        isQuoted = false;
+                    }
+                } else if (isQuoted) {
+                    field.append(c);
+                } else if (c == '"') {
+                    isQuoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
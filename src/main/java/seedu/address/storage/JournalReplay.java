@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The persons of an address book as a journal is replayed over them, where the archived persons stored apart
+ * may not be loaded yet.
+ *
+ * The replay remembers the identity keys of the persons whose state it has settled, and the archival statuses
+ * it set of persons that are not loaded, so that the archived persons can be brought up to date once loaded.
+ */
+class JournalReplay {
+
+    /** The persons loaded, by the identity key of their names. */
+    private final Map<String, Person> persons = new LinkedHashMap<>();
+    private final Set<String> settledKeys = new HashSet<>();
+    private final Map<String, Boolean> unloadedArchivalStatuses = new HashMap<>();
+
+    /**
+     * Creates a replay over {@code persons}, the persons loaded before the journal.
+     */
+    JournalReplay(Collection<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::put);
+    }
+
+    /**
+     * Adds {@code person}, replacing any person with the same identity.
+     */
+    void put(Person person) {
+        String key = person.getName().getIdentityKey();
+        persons.put(key, person);
+        settle(key);
+    }
+
+    /**
+     * Removes the person with the identity key {@code key}, if any.
+     */
+    void remove(String key) {
+        persons.remove(key);
+        settle(key);
+    }
+
+    /**
+     * Sets the archival status of the person with the identity key {@code key}, if there is one.
+     * If the person is not loaded, the status is set once it is, by {@link #bringUpToDate(List)}.
+     */
+    void setArchivalStatus(String key, boolean isArchived) {
+        Person person = persons.get(key);
+        if (person != null) {
+            persons.put(key, person.withArchivalStatus(isArchived));
+        } else if (!settledKeys.contains(key)) {
+            unloadedArchivalStatuses.put(key, isArchived);
+        }
+    }
+
+    private void settle(String key) {
+        settledKeys.add(key);
+        unloadedArchivalStatuses.remove(key);
+    }
+
+    /**
+     * Returns the persons loaded, with the journal replayed, in the order they were added.
+     */
+    List<Person> getPersons() {
+        return new ArrayList<>(persons.values());
+    }
+
+    /**
+     * Returns {@code archivedPersons}, the archived persons loaded after the replay, with the journal replayed.
+     * Those whose state the replay settled without them are dropped.
+     */
+    List<Person> bringUpToDate(List<Person> archivedPersons) {
+        List<Person> upToDate = new ArrayList<>();
+        for (Person person : archivedPersons) {
+            String key = person.getName().getIdentityKey();
+            if (settledKeys.contains(key)) {
+                continue;
+            }
+            Boolean isArchived = unloadedArchivalStatuses.get(key);
+            upToDate.add(isArchived == null ? person : person.withArchivalStatus(isArchived));
+        }
+        return upToDate;
+    }
+}
@@ -0,0 +1,495 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeLog;
+
+/**
+ * An {@code AddressBookStorage} that saves each change to the persons as a record appended to a journal next to
+ * the data file, instead of rewriting the data file, and replays the journal over the data file when read.
+ *
+ * A save compares the persons changed since the last save, as told by the change log of the address book, with
+ * those last saved, by identity, and appends one record per person added, edited, archived or removed, with a
+ * single write and sync for all of them. Without a change log reaching back to the last save, every person is
+ * compared. Nothing is written if nothing changed.
+ * Once the journal grows past a size threshold, it is set aside and the data file is rewritten from the persons
+ * on a background thread, after which the journal set aside is deleted. Records only set the state of the persons
+ * they name, so replaying a journal over a data file that already reflects it leaves the persons unchanged.
+ *
+ * Reading the address book without its archived persons replays the journal over the rest of the data file
+ * only. The records concerning archived persons that are not loaded are applied once they are read, and the
+ * journal is not compacted until an address book with all its archived persons is saved.
+ *
+ * Saves to any other path than the data file are passed to the wrapped storage.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 4L << 20;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+    private static final String EXTENSION = ".json";
+    private static final String JOURNAL_SUFFIX = ".journal.jsonl";
+    private static final String COMPACTING_JOURNAL_SUFFIX = ".journal.compacting.jsonl";
+
+    private final AddressBookStorage snapshotStorage;
+    private final Path journalPath;
+    private final Path compactingJournalPath;
+    private final long compactionThreshold;
+
+    /** The persons last saved or read, by the identity key of their names. */
+    private final Map<String, Person> savedPersons = new HashMap<>();
+    /** The change log of the address book last saved, from which only the persons changed since are compared. */
+    private PersonChangeLog savedChangeLog;
+    private boolean hasReadAllPersons = false;
+    /** The replay of the journal over the persons read, to be applied to the archived persons when read. */
+    private JournalReplay pendingReplay;
+    private boolean isCompactionHeldForArchivedPersons = false;
+    private FileChannel journal;
+    private long journalSize;
+    private Thread compactor;
+
+    /**
+     * Creates a journaled storage over the data file of {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a journaled storage over the data file of {@code snapshotStorage}, which compacts the journal
+     * once it is larger than {@code compactionThreshold} bytes.
+     */
+    JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        journalPath = siblingOf(snapshotStorage.getAddressBookFilePath(), JOURNAL_SUFFIX);
+        compactingJournalPath = siblingOf(snapshotStorage.getAddressBookFilePath(), COMPACTING_JOURNAL_SUFFIX);
+    }
+
+    private static Path siblingOf(Path addressBookFilePath, String suffix) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        String stem = fileName.endsWith(EXTENSION)
+                ? fileName.substring(0, fileName.length() - EXTENSION.length())
+                : fileName;
+        return addressBookFilePath.resolveSibling(stem + suffix);
+    }
+
+    Path getJournalPath() {
+        return journalPath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        if (!hasJournal()) {
+            snapshot.ifPresent(this::rememberAllSaved);
+            return snapshot;
+        }
+
+        JournalReplay replay = new JournalReplay(personsOf(snapshot));
+        replay(compactingJournalPath, replay);
+        replay(journalPath, replay);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(replay.getPersons());
+        rememberAllSaved(addressBook);
+        if (Files.exists(compactingJournalPath)) {
+            startCompaction(addressBook);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the persons of the data file without the archived persons stored apart, as the wrapped storage does,
+     * with the journal replayed over them. A journal set aside for a compaction that did not finish is replayed
+     * over every person instead, and the compaction started again.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readUnarchivedAddressBook() throws DataLoadingException {
+        if (isNonEmpty(compactingJournalPath)) {
+            return readAddressBook();
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readUnarchivedAddressBook();
+        savedPersons.clear();
+        savedChangeLog = null;
+        hasReadAllPersons = false;
+        pendingReplay = null;
+        if (!isNonEmpty(journalPath)) {
+            snapshot.ifPresent(book -> book.getPersonList().forEach(this::rememberSaved));
+            return snapshot;
+        }
+
+        JournalReplay replay = new JournalReplay(personsOf(snapshot));
+        replay(journalPath, replay);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(replay.getPersons());
+        addressBook.setHasAllArchivedPersons(snapshot.map(ReadOnlyAddressBook::hasAllArchivedPersons).orElse(true));
+        addressBook.getPersonList().forEach(this::rememberSaved);
+        pendingReplay = replay;
+        isCompactionHeldForArchivedPersons = true;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns the archived persons stored apart, with the records of the journal that concern them applied,
+     * unless every person has been read already.
+     */
+    @Override
+    public List<Person> readArchivedPersons() throws DataLoadingException {
+        JournalReplay replay;
+        synchronized (this) {
+            if (hasReadAllPersons) {
+                return List.of();
+            }
+            replay = pendingReplay;
+        }
+        List<Person> archivedPersons = snapshotStorage.readArchivedPersons();
+        if (replay != null) {
+            archivedPersons = replay.bringUpToDate(archivedPersons);
+        }
+        synchronized (this) {
+            for (Person person : archivedPersons) {
+                savedPersons.putIfAbsent(person.getName().getIdentityKey(), person);
+            }
+            if (pendingReplay == replay) {
+                pendingReplay = null;
+            }
+        }
+        return archivedPersons;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = recordChanges(addressBook);
+        if (records.isEmpty()) {
+            return;
+        }
+        append(records);
+        logger.fine(() -> "Journaled " + records.size() + " changes to " + journalPath);
+
+        if (addressBook.hasAllArchivedPersons()) {
+            isCompactionHeldForArchivedPersons = false;
+        }
+        if (journalSize > compactionThreshold && !isCompacting() && !isCompactionHeldForArchivedPersons) {
+            startCompaction(addressBook);
+        }
+    }
+
+    /**
+     * Returns the records of the changes from the persons last saved to those of {@code addressBook}, and
+     * remembers its persons as saved. If the change log of {@code addressBook} reaches back to the last save, only
+     * the persons it names are compared; otherwise every person is. Archived persons that are not in an address
+     * book without all its archived persons are taken to be not yet loaded, rather than removed.
+     */
+    private List<JsonAdaptedJournalRecord> recordChanges(ReadOnlyAddressBook addressBook)
+            throws JsonProcessingException {
+        PersonChangeLog changeLog = addressBook.getChangeLog();
+        Optional<Map<String, Person>> loggedChanges = changeLog == null
+                ? Optional.empty()
+                : changeLog.changesSince(savedChangeLog);
+        List<JsonAdaptedJournalRecord> records = loggedChanges.isPresent()
+                ? recordLoggedChanges(loggedChanges.get())
+                : recordAllChanges(addressBook);
+        savedChangeLog = changeLog;
+        return records;
+    }
+
+    /**
+     * Returns the records of {@code changes}, the persons now with each identity key changed since the last save,
+     * or null for those removed, and remembers them as saved.
+     */
+    private List<JsonAdaptedJournalRecord> recordLoggedChanges(Map<String, Person> changes)
+            throws JsonProcessingException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        List<JsonAdaptedJournalRecord> removals = new ArrayList<>();
+        for (Map.Entry<String, Person> change : changes.entrySet()) {
+            Person person = change.getValue();
+            Person savedPerson = savedPersons.get(change.getKey());
+            if (person == null) {
+                if (savedPerson != null) {
+                    removals.add(JsonAdaptedJournalRecord.removed(savedPerson));
+                    savedPersons.remove(change.getKey());
+                }
+            } else if (savedPerson != person) {
+                records.add(recordOf(savedPerson, person));
+                rememberSaved(person);
+            }
+        }
+        removals.addAll(records);
+        return removals;
+    }
+
+    private List<JsonAdaptedJournalRecord> recordAllChanges(ReadOnlyAddressBook addressBook)
+            throws JsonProcessingException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        Set<String> presentKeys = new HashSet<>();
+        List<Person> changedPersons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            String key = person.getName().getIdentityKey();
+            presentKeys.add(key);
+            Person savedPerson = savedPersons.get(key);
+            if (savedPerson == person) {
+                continue;
+            }
+            records.add(recordOf(savedPerson, person));
+            changedPersons.add(person);
+        }
+
+        List<JsonAdaptedJournalRecord> removals = new ArrayList<>();
+        savedPersons.entrySet().removeIf(entry -> {
+            Person savedPerson = entry.getValue();
+            if (presentKeys.contains(entry.getKey())
+                    || (savedPerson.getArchivalStatus() && !addressBook.hasAllArchivedPersons())) {
+                return false;
+            }
+            removals.add(JsonAdaptedJournalRecord.removed(savedPerson));
+            return true;
+        });
+        changedPersons.forEach(this::rememberSaved);
+
+        removals.addAll(records);
+        return removals;
+    }
+
+    /**
+     * Returns the record of {@code savedPerson}, or no person if null, becoming {@code person}.
+     */
+    private static JsonAdaptedJournalRecord recordOf(Person savedPerson, Person person)
+            throws JsonProcessingException {
+        if (savedPerson == null) {
+            return JsonAdaptedJournalRecord.added(person);
+        } else if (isOnlyArchivalChange(savedPerson, person)) {
+            return JsonAdaptedJournalRecord.archived(savedPerson, person.getArchivalStatus());
+        } else {
+            return JsonAdaptedJournalRecord.set(savedPerson, person);
+        }
+    }
+
+    private static boolean isOnlyArchivalChange(Person savedPerson, Person person) throws JsonProcessingException {
+        if (savedPerson.getArchivalStatus() == person.getArchivalStatus()) {
+            return false;
+        }
+        String expected = JsonUtil.toJsonLine(new JsonAdaptedPerson(
+                savedPerson.withArchivalStatus(person.getArchivalStatus())));
+        return expected.equals(JsonUtil.toJsonLine(new JsonAdaptedPerson(person)));
+    }
+
+    private void append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toJsonLine(record)).append('\n');
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+
+        if (journal == null) {
+            FileUtil.createParentDirsOfFile(journalPath);
+            journal = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+            journalSize = journal.size();
+        }
+        while (bytes.hasRemaining()) {
+            journalSize += journal.write(bytes);
+        }
+        journal.force(false);
+    }
+
+    /**
+     * Sets the journal aside, unless one is already set aside, and rewrites the data file from the persons of
+     * {@code addressBook} on a background thread, after which the journal set aside is deleted.
+     * The thread is not a daemon, so that the application does not exit halfway through the rewrite.
+     */
+    private void startCompaction(ReadOnlyAddressBook addressBook) {
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        try {
+            if (!Files.exists(compactingJournalPath)) {
+                closeJournal();
+                if (Files.exists(journalPath)) {
+                    Files.move(journalPath, compactingJournalPath, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Could not set aside journal " + journalPath + " for compaction: " + e);
+            return;
+        }
+
+        compactor = new Thread(() -> {
+            try {
+                snapshotStorage.saveAddressBook(snapshot);
+                Files.deleteIfExists(compactingJournalPath);
+                logger.info("Compacted journal " + journalPath + " into " + getAddressBookFilePath());
+            } catch (IOException e) {
+                logger.warning("Could not compact journal " + journalPath + ": " + e);
+            }
+        }, "journal-compactor");
+        compactor.start();
+    }
+
+    /**
+     * Closes the journal, which is opened again by the next save that has changes to append.
+     * Every record is synced to the journal as it is appended, so there is nothing else to wait for.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        closeJournal();
+    }
+
+    private void closeJournal() throws IOException {
+        if (journal != null) {
+            journal.close();
+            journal = null;
+        }
+        journalSize = 0;
+    }
+
+    private boolean isCompacting() {
+        return compactor != null && compactor.isAlive();
+    }
+
+    /**
+     * Waits for the compaction in progress, if any, to finish.
+     */
+    void awaitCompaction() throws InterruptedException {
+        Thread pendingCompactor;
+        synchronized (this) {
+            pendingCompactor = compactor;
+        }
+        if (pendingCompactor != null) {
+            pendingCompactor.join();
+        }
+    }
+
+    private boolean hasJournal() {
+        return isNonEmpty(journalPath) || isNonEmpty(compactingJournalPath);
+    }
+
+    private static boolean isNonEmpty(Path file) {
+        try {
+            return Files.exists(file) && Files.size(file) > 0;
+        } catch (IOException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Applies the records of the journal at {@code path}, if it exists, to the persons of {@code replay}.
+     * A last record that is cut short, as when the application stopped while appending it, is cut off the file.
+     */
+    private static void replay(Path path, JournalReplay replay) throws DataLoadingException {
+        if (!Files.exists(path)) {
+            return;
+        }
+
+        int replayed = 0;
+        JsonProcessingException incompleteLastRecord = null;
+        try {
+            try (BufferedReader reader = Files.newBufferedReader(path)) {
+                String line = reader.readLine();
+                while (line != null) {
+                    String nextLine = reader.readLine();
+                    if (!line.isBlank()) {
+                        JsonAdaptedJournalRecord record;
+                        try {
+                            record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+                        } catch (JsonProcessingException e) {
+                            if (nextLine != null) {
+                                throw e;
+                            }
+                            incompleteLastRecord = e;
+                            break;
+                        }
+                        record.applyTo(replay);
+                        replayed++;
+                    }
+                    line = nextLine;
+                }
+            }
+            if (incompleteLastRecord != null) {
+                if (!FileUtil.truncateIncompleteLastLine(path)) {
+                    throw incompleteLastRecord;
+                }
+                logger.warning("Discarded incomplete last record of journal " + path);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + path + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + path + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+        logger.info("Replayed " + replayed + " records from journal " + path);
+    }
+
+    private static List<Person> personsOf(Optional<ReadOnlyAddressBook> addressBook) {
+        return addressBook.isPresent() ? addressBook.get().getPersonList() : List.of();
+    }
+
+    private void rememberAllSaved(ReadOnlyAddressBook addressBook) {
+        savedPersons.clear();
+        savedChangeLog = null;
+        pendingReplay = null;
+        isCompactionHeldForArchivedPersons = false;
+        addressBook.getPersonList().forEach(this::rememberSaved);
+        hasReadAllPersons = addressBook.hasAllArchivedPersons();
+    }
+
+    private void rememberSaved(Person person) {
+        savedPersons.put(person.getName().getIdentityKey(), person);
+    }
+}
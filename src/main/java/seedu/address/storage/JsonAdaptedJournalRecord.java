@@ -0,0 +1,132 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change to the persons of an address book, as kept in a journal.
+ * Applying a record sets the state of the persons it names regardless of their state before, so replaying
+ * records that are already reflected in the persons leaves them unchanged.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+
+    /**
+     * The kinds of change a record can hold.
+     */
+    enum Operation {
+        /** Adds {@code person}, replacing any person with the same identity. */
+        ADD,
+        /** Replaces the person called {@code name} with {@code person}. */
+        SET,
+        /** Removes the person called {@code name}, if any. */
+        REMOVE,
+        /** Sets the archival status of the person called {@code name} to {@code archived}, if there is one. */
+        ARCHIVE
+    }
+
+    private final Operation operation;
+    private final String name;
+    private final JsonAdaptedPerson person;
+    private final Boolean archived;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") Operation operation,
+                                    @JsonProperty("name") String name,
+                                    @JsonProperty("person") JsonAdaptedPerson person,
+                                    @JsonProperty("archived") Boolean archived) {
+        this.operation = operation;
+        this.name = name;
+        this.person = person;
+        this.archived = archived;
+    }
+
+    /**
+     * Returns a record of {@code person} being added.
+     */
+    static JsonAdaptedJournalRecord added(Person person) {
+        return new JsonAdaptedJournalRecord(Operation.ADD, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record of {@code target} being replaced by {@code editedPerson}.
+     */
+    static JsonAdaptedJournalRecord set(Person target, Person editedPerson) {
+        return new JsonAdaptedJournalRecord(Operation.SET, target.getName().fullName,
+                new JsonAdaptedPerson(editedPerson), null);
+    }
+
+    /**
+     * Returns a record of {@code person} being removed.
+     */
+    static JsonAdaptedJournalRecord removed(Person person) {
+        return new JsonAdaptedJournalRecord(Operation.REMOVE, person.getName().fullName, null, null);
+    }
+
+    /**
+     * Returns a record of the archival status of {@code person} being set to {@code isArchived}.
+     */
+    static JsonAdaptedJournalRecord archived(Person person, boolean isArchived) {
+        return new JsonAdaptedJournalRecord(Operation.ARCHIVE, person.getName().fullName, null, isArchived);
+    }
+
+    /**
+     * Applies this record to the persons of {@code replay}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the record.
+     */
+    public void applyTo(JournalReplay replay) throws IllegalValueException {
+        if (operation == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "operation"));
+        }
+        switch (operation) {
+        case ADD:
+            replay.put(toModelPerson());
+            break;
+        case SET:
+            String targetKey = toIdentityKey();
+            Person editedPerson = toModelPerson();
+            replay.remove(targetKey);
+            replay.put(editedPerson);
+            break;
+        case REMOVE:
+            replay.remove(toIdentityKey());
+            break;
+        case ARCHIVE:
+            if (archived == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "archived"));
+            }
+            replay.setArchivalStatus(toIdentityKey(), archived);
+            break;
+        default:
+            throw new AssertionError("Unknown journal operation: " + operation);
+        }
+    }
+
+    private Person toModelPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+        }
+        return person.toModelType();
+    }
+
+    private String toIdentityKey() throws IllegalValueException {
+        if (name == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
+        }
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name).getIdentityKey();
+    }
+}
@@ -157,8 +157,8 @@ class JsonAdaptedPerson {
 
         final Address modelAddress = new Address(address);
 
-        final Organisation modelOrganisation = (organisation == null) ? new Organisation("")
-            : new Organisation(organisation);
+        final Organisation modelOrganisation = (organisation == null) ? Organisation.of("")
+            : Organisation.of(organisation);
 
         final Event modelEvent = (event == null) ? new Event("") : new Event(event);
 
@@ -166,10 +166,10 @@ class JsonAdaptedPerson {
 
         final Offset modelOffset;
         if (offset == null || offset.isEmpty()) {
-            modelOffset = new Offset("+00:00"); // default UTC
+            modelOffset = Offset.of("+00:00"); // default UTC
         } else {
             try {
-                modelOffset = new Offset(offset);
+                modelOffset = Offset.of(offset);
             } catch (IllegalArgumentException e) {
                 throw new IllegalValueException("Invalid GMT offset: " + offset
                         + ". Must be in the format +HH:MM or -HH:MM, where HH is 00-14 and MM is 00-59.");
@@ -188,10 +188,17 @@ class JsonAdaptedPerson {
             }
         }
 
-        if (!isNull(country) && !Country.isValidCountry(country)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        final Country modelCountry;
+        if (isNull(country)) {
+            modelCountry = null;
+        } else {
+            // A country seen before is looked up without validating its name against every country again.
+            try {
+                modelCountry = Country.of(country);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+            }
         }
-        final Country modelCountry = isNull(country) ? null : new Country(country);
 
         final PreferredLanguage modelPreferredLanguage;
         if (preferredLanguage == null || preferredLanguage.isBlank()) {
@@ -200,7 +207,7 @@ class JsonAdaptedPerson {
             if (!PreferredLanguage.isValidLanguage(preferredLanguage)) {
                 throw new IllegalValueException(PreferredLanguage.MESSAGE_CONSTRAINTS);
             }
-            modelPreferredLanguage = new PreferredLanguage(preferredLanguage);
+            modelPreferredLanguage = PreferredLanguage.of(preferredLanguage);
         }
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
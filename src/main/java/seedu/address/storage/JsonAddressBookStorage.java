@@ -3,25 +3,39 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The archived persons are kept apart in an {@link ArchivedPersonsFile} next to it, so that the rest of the data
+ * can be read without them, and archiving a person appends it there instead of rewriting all archived persons.
+ * Likewise, a save in which only archived persons changed leaves the data file as it is.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private ArchivedPersonsFile archivedPersonsFile;
+    /** The unarchived persons last read from or written to this storage's own data file, or null if not known. */
+    private volatile List<Person> savedUnarchivedPersons;
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -45,14 +59,57 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        Optional<AddressBook> addressBook = readUnarchived(filePath);
+        if (!addressBook.isPresent()) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        List<Person> archivedPersons = archivedPersonsFileFor(filePath).read();
+        List<Person> personsOnlyArchived = new ArrayList<>();
+        for (Person person : archivedPersons) {
+            if (addressBook.get().hasPerson(person)) {
+                logger.warning("Person " + person.getName() + " found in both " + filePath + " and its archive, "
+                        + "keeping the one in " + filePath);
+            } else {
+                personsOnlyArchived.add(person);
+            }
+        }
+        addressBook.get().addPersons(personsOnlyArchived);
+        return Optional.of(addressBook.get());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readUnarchivedAddressBook() throws DataLoadingException {
+        return readUnarchived(filePath).map(book -> {
+            book.setHasAllArchivedPersons(!Files.exists(ArchivedPersonsFile.pathFor(filePath)));
+            return book;
+        });
+    }
+
+    @Override
+    public List<Person> readArchivedPersons() throws DataLoadingException {
+        return archivedPersonsFileFor(filePath).read();
+    }
+
+    /**
+     * Reads the address book data file at {@code filePath}, without the archived persons kept apart from it.
+     * The file is parsed as a stream, and each person is adapted as soon as it is parsed.
+     */
+    private Optional<AddressBook> readUnarchived(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            AddressBook addressBook = JsonSerializableAddressBook.read(parser);
+            if (filePath.equals(this.filePath)) {
+                savedUnarchivedPersons = List.copyOf(addressBook.getPersonList());
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +130,67 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        List<Person> unarchivedPersons = new ArrayList<>();
+        List<Person> archivedPersons = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            if (person.getArchivalStatus()) {
+                archivedPersons.add(person);
+            } else {
+                unarchivedPersons.add(person);
+            }
+        }
+
+        // Each file gains persons before the other drops them, so that a person is always in at least one file
+        // and a save that does not complete at worst leaves a person in both.
+        ArchivedPersonsFile archiveFile = archivedPersonsFileFor(filePath);
+        archiveFile.saveAdditions(archivedPersons);
+        boolean isOwnDataFile = filePath.equals(this.filePath);
+        if (!isOwnDataFile || !isSaved(unarchivedPersons)) {
+            if (isOwnDataFile) {
+                savedUnarchivedPersons = null;
+            }
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFile(filePath, out -> {
+                try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                    JsonSerializableAddressBook.write(generator, unarchivedPersons);
+                }
+            });
+            if (isOwnDataFile) {
+                savedUnarchivedPersons = unarchivedPersons;
+            }
+        }
+        archiveFile.saveRemovals(archivedPersons, addressBook.hasAllArchivedPersons());
+    }
+
+    /**
+     * Returns true if this storage's own data file holds {@code unarchivedPersons}, the very same instances in the
+     * same order, so that it need not be rewritten when only archived persons changed.
+     */
+    private boolean isSaved(List<Person> unarchivedPersons) {
+        List<Person> saved = savedUnarchivedPersons;
+        if (saved == null || saved.size() != unarchivedPersons.size() || !Files.exists(filePath)) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (saved.get(i) != unarchivedPersons.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the archived persons file kept next to the data file at {@code filePath}.
+     * The file of this storage's own data file is kept across calls, so that it remembers what it holds.
+     */
+    private synchronized ArchivedPersonsFile archivedPersonsFileFor(Path filePath) {
+        if (!filePath.equals(this.filePath)) {
+            return new ArchivedPersonsFile(filePath);
+        }
+        if (archivedPersonsFile == null) {
+            archivedPersonsFile = new ArchivedPersonsFile(filePath);
+        }
+        return archivedPersonsFile;
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -15,11 +20,17 @@ import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * {@link #read(JsonParser)} and {@link #write(JsonGenerator, Iterable)} stream the same format one person at
+ * a time, without holding all adapted persons in memory at once.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_NO_PERSONS = "Expected a JSON object with a \"persons\" array.";
+    public static final String MESSAGE_NOT_A_PERSON = "Expected a person but found null.";
+
+    private static final String PERSONS_FIELD = "persons";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -46,15 +57,58 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        ParallelPersonConverter converter = new ParallelPersonConverter();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            converter.add(jsonAdaptedPerson);
+        }
+        return converter.toAddressBook();
+    }
+
+    /**
+     * Reads an address book from the JSON object the parser is before, converting the persons parsed so far
+     * in parallel with parsing the rest.
+     *
+     * @throws IOException if the JSON is malformed or does not have the structure of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(JsonParser parser) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NO_PERSONS);
+        }
+        AddressBook addressBook = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken token = parser.nextToken();
+            if (!field.equals(PERSONS_FIELD)) {
+                parser.skipChildren();
+                continue;
             }
-            addressBook.addPerson(person);
+            if (token != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_NO_PERSONS);
+            }
+            ParallelPersonConverter converter = new ParallelPersonConverter();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                converter.add(parser.readValueAs(JsonAdaptedPerson.class));
+            }
+            addressBook = converter.toAddressBook();
+        }
+        if (addressBook == null) {
+            throw new JsonParseException(parser, MESSAGE_NO_PERSONS);
         }
         return addressBook;
     }
 
+    /**
+     * Writes {@code persons} as the JSON object of this class, adapting each person as it is serialized.
+     */
+    static void write(JsonGenerator generator, Iterable<Person> persons) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts {@code JsonAdaptedPerson}s into the persons of an address book on the common fork-join pool,
+ * a chunk at a time, while later persons are still being read.
+ * Converting a person validates each of its fields, which is most of the time taken to load a large address book.
+ *
+ * Converted chunks are collected in the order they were read, so the first invalid or duplicate person read is
+ * the one reported. Only a few chunks are converted at a time, so persons read but not yet converted do not
+ * pile up. The address book is built from all the persons at once, sorting them once instead of per person.
+ */
+class ParallelPersonConverter {
+
+    static final int CHUNK_SIZE = 1024;
+
+    private static final int MAX_CHUNKS_IN_FLIGHT = 4 * ForkJoinPool.getCommonPoolParallelism();
+
+    private final Deque<ChunkConversion> inFlight = new ArrayDeque<>();
+    private final List<Person> persons = new ArrayList<>();
+    private final Set<String> identities = new HashSet<>();
+    private List<JsonAdaptedPerson> chunk = new ArrayList<>(CHUNK_SIZE);
+
+    /**
+     * Adds {@code jsonAdaptedPerson} to the persons to convert.
+     *
+     * @throws IllegalValueException if a person added earlier violates any data constraints or is a duplicate.
+     */
+    void add(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        chunk.add(jsonAdaptedPerson);
+        if (chunk.size() == CHUNK_SIZE) {
+            submitChunk();
+        }
+    }
+
+    /**
+     * Returns an address book of all the persons added, once they are converted.
+     *
+     * @throws IllegalValueException if any person added violates any data constraints or is a duplicate.
+     */
+    AddressBook toAddressBook() throws IllegalValueException {
+        if (!chunk.isEmpty()) {
+            submitChunk();
+        }
+        while (!inFlight.isEmpty()) {
+            collectOldestChunk();
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private void submitChunk() throws IllegalValueException {
+        ChunkConversion conversion = new ChunkConversion(chunk);
+        conversion.fork();
+        inFlight.add(conversion);
+        chunk = new ArrayList<>(CHUNK_SIZE);
+        if (inFlight.size() > MAX_CHUNKS_IN_FLIGHT) {
+            collectOldestChunk();
+        }
+    }
+
+    private void collectOldestChunk() throws IllegalValueException {
+        try {
+            for (Person person : inFlight.remove().getConvertedPersons()) {
+                if (!identities.add(person.getName().getIdentityKey())) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                persons.add(person);
+            }
+        } catch (IllegalValueException | RuntimeException e) {
+            inFlight.forEach(conversion -> conversion.cancel(false));
+            inFlight.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Converts one chunk of persons, stopping at the first that violates any data constraints.
+     */
+    private static class ChunkConversion extends RecursiveTask<List<Person>> {
+        private final List<JsonAdaptedPerson> jsonAdaptedPersons;
+        private IllegalValueException failure;
+
+        ChunkConversion(List<JsonAdaptedPerson> jsonAdaptedPersons) {
+            this.jsonAdaptedPersons = jsonAdaptedPersons;
+        }
+
+        @Override
+        protected List<Person> compute() {
+            List<Person> converted = new ArrayList<>(jsonAdaptedPersons.size());
+            try {
+                for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+                    if (jsonAdaptedPerson == null) {
+                        throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_NOT_A_PERSON);
+                    }
+                    converted.add(jsonAdaptedPerson.toModelType());
+                }
+            } catch (IllegalValueException e) {
+                failure = e;
+            }
+            return converted;
+        }
+
+        /**
+         * Waits for the chunk to be converted and returns its persons.
+         *
+         * @throws IllegalValueException if a person of the chunk violates any data constraints.
+         */
+        List<Person> getConvertedPersons() throws IllegalValueException {
+            List<Person> converted = join();
+            if (failure != null) {
+                throw failure;
+            }
+            return converted;
+        }
+    }
+}
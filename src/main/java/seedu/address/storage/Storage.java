@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,12 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Sets the handler told of address books that could not be written after the save returned.
+     * Storages that write each address book before returning from the save throw such failures from the save
+     * instead, and never call the handler.
+     */
+    default void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -64,6 +66,18 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> readUnarchivedAddressBook() throws DataLoadingException {
+        logger.fine("Attempting to read unarchived data from file: " + getAddressBookFilePath());
+        return addressBookStorage.readUnarchivedAddressBook();
+    }
+
+    @Override
+    public List<Person> readArchivedPersons() throws DataLoadingException {
+        logger.fine("Attempting to read archived data of file: " + getAddressBookFilePath());
+        return addressBookStorage.readArchivedPersons();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -75,4 +89,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flush() throws IOException {
+        addressBookStorage.flush();
+    }
+
 }
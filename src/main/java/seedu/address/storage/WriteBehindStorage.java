@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * A {@code Storage} that saves the address book to its data file on a background thread, so that the thread
+ * saving it does not wait for the file to be written.
+ *
+ * A save only takes a snapshot of the persons and returns. Snapshots saved while an earlier one is still waiting
+ * to be written replace it, so a burst of saves is written once, as of the last of them. An address book that
+ * could not be written is reported to the save failure handler, or thrown from the next save if there is none,
+ * and is written again by the next save or flush. {@link #flush()} waits until the last snapshot is written.
+ *
+ * Saves to any other path than the data file, reads, and user prefs are passed to the wrapped storage directly.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService writer;
+
+    /** The last snapshot saved that has not been written yet, if any. */
+    private ReadOnlyAddressBook unwritten;
+    private boolean isWriteScheduled = false;
+    private IOException unreportedFailure;
+    private Consumer<IOException> saveFailureHandler;
+
+    /**
+     * Creates a write-behind storage over {@code storage}.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readUnarchivedAddressBook() throws DataLoadingException {
+        return storage.readUnarchivedAddressBook();
+    }
+
+    @Override
+    public List<Person> readArchivedPersons() throws DataLoadingException {
+        return storage.readArchivedPersons();
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} to be written to the data file on the background thread.
+     *
+     * @throws IOException if an address book saved earlier could not be written and there is no save failure
+     *     handler to report it to.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+        IOException failure;
+        synchronized (this) {
+            unwritten = snapshot;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writeUnwritten);
+            }
+            failure = unreportedFailure;
+            unreportedFailure = null;
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (filePath.equals(getAddressBookFilePath())) {
+            saveAddressBook(addressBook);
+            return;
+        }
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        Future<?> written = writer.submit(() -> {
+            ReadOnlyAddressBook snapshot;
+            synchronized (this) {
+                // Any failure to write is reported by this flush instead
+                snapshot = unwritten;
+                unreportedFailure = null;
+            }
+            if (snapshot != null) {
+                write(snapshot);
+            }
+            storage.flush();
+            return null;
+        });
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    written.get();
+                    return;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    /**
+     * Writes the last snapshot saved, reporting the failure if it could not be written.
+     * Runs on the background thread.
+     */
+    private void writeUnwritten() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            isWriteScheduled = false;
+            snapshot = unwritten;
+        }
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            write(snapshot);
+        } catch (IOException e) {
+            logger.warning("Could not write address book to " + getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+            reportFailure(e);
+        }
+    }
+
+    /**
+     * Writes {@code snapshot} to the data file, after which it is no longer unwritten unless a later snapshot
+     * was saved in the meantime.
+     */
+    private void write(ReadOnlyAddressBook snapshot) throws IOException {
+        storage.saveAddressBook(snapshot);
+        synchronized (this) {
+            if (unwritten == snapshot) {
+                unwritten = null;
+            }
+            unreportedFailure = null;
+        }
+    }
+
+    private void reportFailure(IOException failure) {
+        Consumer<IOException> handler;
+        synchronized (this) {
+            handler = saveFailureHandler;
+            if (handler == null) {
+                unreportedFailure = failure;
+                return;
+            }
+        }
+        handler.accept(failure);
+    }
+}
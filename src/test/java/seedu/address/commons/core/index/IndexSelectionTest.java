@@ -0,0 +1,71 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexSelectionTest {
+
+    private static final List<String> ITEMS = List.of("a", "b", "c", "d", "e");
+
+    @Test
+    public void ofRange_lastBeforeFirst_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                IndexSelection.ofRange(Index.fromOneBased(3), Index.fromOneBased(2)));
+    }
+
+    @Test
+    public void isWithin() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(5));
+        assertTrue(selection.isWithin(5));
+        assertFalse(selection.isWithin(4));
+        assertTrue(IndexSelection.ALL.isWithin(0));
+    }
+
+    @Test
+    public void selectFrom_overlappingRanges_selectsEachItemOnceInListOrder() {
+        IndexSelection selection = IndexSelection.of(Index.fromOneBased(5))
+                .union(IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(2)))
+                .union(IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(3)));
+        assertEquals(List.of("a", "b", "c", "e"), selection.selectFrom(ITEMS));
+    }
+
+    @Test
+    public void selectFrom_all_selectsEveryItem() {
+        assertEquals(ITEMS, IndexSelection.ALL.selectFrom(ITEMS));
+        assertTrue(IndexSelection.ALL.selectFrom(List.of()).isEmpty());
+    }
+
+    @Test
+    public void union_withAll_returnsAll() {
+        assertTrue(IndexSelection.of(Index.fromOneBased(1)).union(IndexSelection.ALL).isAll());
+    }
+
+    @Test
+    public void equals() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(3));
+
+        assertTrue(selection.equals(selection));
+        assertTrue(selection.equals(IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(3))));
+        assertTrue(IndexSelection.of(Index.fromOneBased(2))
+                .equals(IndexSelection.ofRange(Index.fromOneBased(2), Index.fromOneBased(2))));
+
+        assertFalse(selection.equals(null));
+        assertFalse(selection.equals(Index.fromOneBased(1)));
+        assertFalse(selection.equals(IndexSelection.ALL));
+        assertFalse(selection.equals(IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(4))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        IndexSelection selection = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(3))
+                .union(IndexSelection.of(Index.fromOneBased(7)));
+        assertEquals(IndexSelection.class.getCanonicalName() + "{ranges=1-3,7}", selection.toString());
+        assertEquals(IndexSelection.class.getCanonicalName() + "{ranges=all}", IndexSelection.ALL.toString());
+    }
+}
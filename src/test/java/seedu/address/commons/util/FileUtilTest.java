@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,35 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacedWithoutTemporaryFile() throws Exception {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old");
+        FileUtil.writeToFile(file, "new");
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        try (var files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void truncateIncompleteLastLine() throws Exception {
+        Path file = testFolder.resolve("records.jsonl");
+
+        // incomplete last line -> truncated after the last complete line
+        Files.writeString(file, "first\nsecond\nthi");
+        assertTrue(FileUtil.truncateIncompleteLastLine(file));
+        assertEquals("first\nsecond\n", Files.readString(file));
+
+        // no incomplete last line -> unchanged
+        assertFalse(FileUtil.truncateIncompleteLastLine(file));
+        assertEquals("first\nsecond\n", Files.readString(file));
+
+        // only an incomplete line -> emptied
+        Files.writeString(file, "fir");
+        assertTrue(FileUtil.truncateIncompleteLastLine(file));
+        assertEquals("", Files.readString(file));
+    }
+
 }
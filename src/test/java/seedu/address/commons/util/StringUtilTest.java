@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,23 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for foldForLooseMatch --------------------------------------
+
+    @Test
+    public void foldForLooseMatch_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldForLooseMatch(null));
+    }
+
+    @Test
+    public void foldForLooseMatch_variousForms_foldedToPlainLowerCase() {
+        assertEquals("jose", StringUtil.foldForLooseMatch("José")); // precomposed accent
+        assertEquals("jose", StringUtil.foldForLooseMatch("Jose\u0301")); // combining accent
+        assertEquals("jose", StringUtil.foldForLooseMatch("ＪＯＳＥ")); // full-width letters
+        assertEquals("lodz", StringUtil.foldForLooseMatch("Łódź")); // letter without decomposition
+        assertEquals("strasse", StringUtil.foldForLooseMatch("Straße"));
+        assertEquals("zoe ahn", StringUtil.foldForLooseMatch("Zoë Ahn"));
+        assertEquals("alex yeoh", StringUtil.foldForLooseMatch("alex yeoh")); // already folded
+        assertEquals("", StringUtil.foldForLooseMatch(""));
+    }
+
 }
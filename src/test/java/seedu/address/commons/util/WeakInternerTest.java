@@ -0,0 +1,52 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.lang.ref.WeakReference;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<Value> interner = new WeakInterner<>(Value::new);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<Value>(null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_sameKeyWhileInUse_sameInstance() {
+        Value value = interner.intern("friends");
+        assertEquals("friends", value.key);
+        assertSame(value, interner.intern(new String("friends")));
+        assertNotSame(value, interner.intern("colleagues"));
+    }
+
+    @Test
+    public void intern_valueNoLongerInUse_notKept() throws Exception {
+        WeakReference<Value> unused = new WeakReference<>(interner.intern(new String("unused")));
+        for (int attempt = 0; attempt < 50 && unused.get() != null; attempt++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(unused.get());
+    }
+
+    private static class Value {
+        private final String key;
+
+        Value(String key) {
+            this.key = key;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -13,7 +15,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +37,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -80,6 +88,60 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        useStorageThrowing(DUMMY_IO_EXCEPTION);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+
+        SaveStatistics statistics = logic.getSaveStatistics();
+        assertEquals(1, statistics.getExecutionCount("ListCommand"));
+        assertEquals(0, statistics.getSaveCount("ListCommand"));
+    }
+
+    @Test
+    public void execute_changingCommand_savesAndRecordsSave() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + COUNTRY_DESC_AMY + OFFSET_DESC_AMY);
+        logic.execute(ListCommand.COMMAND_WORD);
+
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        SaveStatistics statistics = logic.getSaveStatistics();
+        assertEquals(1, statistics.getSaveCount("AddCommand"));
+        assertEquals(0, statistics.getSaveCount("ListCommand"));
+        assertEquals(0, statistics.getSaveCount("DeleteCommand"));
+        assertFalse(statistics.getTotalSaveTime("AddCommand").isNegative());
+        assertEquals(List.of("AddCommand", "ListCommand"), List.copyOf(statistics.getCommandNames()));
+    }
+
+    @Test
+    public void execute_afterFailedSave_savesAgain() {
+        useStorageThrowing(DUMMY_IO_EXCEPTION);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + COUNTRY_DESC_AMY + OFFSET_DESC_AMY;
+        assertThrows(CommandException.class, () -> logic.execute(addCommand));
+
+        // The changes of the failed save are still unsaved, so even a command that changes nothing saves them
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_afterSaveFailedInBackground_savesAgain() throws Exception {
+        logic = new LogicManager(model, new WriteBehindStorage(storageThrowing(DUMMY_IO_EXCEPTION)));
+        BlockingQueue<String> failures = new LinkedBlockingQueue<>();
+        logic.setSaveFailureHandler(failures::add);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
+                + COUNTRY_DESC_AMY + OFFSET_DESC_AMY);
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                failures.poll(10, TimeUnit.SECONDS));
+
+        // The failed save is not confirmed, so even a command that changes nothing saves again
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, logic.getSaveStatistics().getSaveCount("ListCommand"));
+        assertEquals(String.format(LogicManager.FILE_OPS_ERROR_FORMAT, DUMMY_IO_EXCEPTION.getMessage()),
+                failures.poll(10, TimeUnit.SECONDS));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -157,10 +219,28 @@ public class LogicManagerTest {
      *                        Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        useStorageThrowing(e);
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + COUNTRY_DESC_AMY + OFFSET_DESC_AMY;
+        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(addCommand));
+    }
+
+    /**
+     * Injects LogicManager with a Storage component that throws {@code e} when saving the address book.
+     */
+    private void useStorageThrowing(IOException e) {
+        logic = new LogicManager(model, storageThrowing(e));
+    }
+
+    /**
+     * Returns a Storage component that throws {@code e} when saving the address book.
+     */
+    private StorageManager storageThrowing(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e
-        // when saving
+        // An AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -171,13 +251,6 @@ public class LogicManagerTest {
 
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(
                 temporaryFolder.resolve("ExceptionUserPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
-
-        logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + COUNTRY_DESC_AMY + OFFSET_DESC_AMY;
-        assertThrows(CommandException.class, expectedMessage, () -> logic.execute(addCommand));
+        return new StorageManager(addressBookStorage, userPrefsStorage);
     }
 }
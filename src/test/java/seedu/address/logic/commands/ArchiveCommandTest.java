@@ -9,9 +9,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -106,6 +109,31 @@ public class ArchiveCommandTest {
         assertCommandFailure(archiveCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_indexRangeWithArchivedPerson_archivesRemainingPersons() throws Exception {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        model.setPerson(firstPerson, new PersonBuilder(firstPerson).archived().build());
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+
+        CommandResult result = new ArchiveCommand(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(3))).execute(model);
+
+        assertEquals(String.format(ArchiveCommand.MESSAGE_ARCHIVE_PERSONS_SUCCESS, 2, 1),
+                result.getFeedbackToUser());
+        assertEquals(3, model.getAddressBook().getPersonList().stream().filter(Person::getArchivalStatus).count());
+        assertEquals(model.getAddressBook().getPersonList().size() - 3, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_allSelectedAlreadyArchived_throwsCommandException() {
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        List.copyOf(model.getFilteredPersonList())
+                .forEach(person -> model.setPerson(person, new PersonBuilder(person).archived().build()));
+
+        assertCommandFailure(new ArchiveCommand(IndexSelection.ALL), model,
+                ArchiveCommand.MESSAGE_ALL_ALREADY_ARCHIVED);
+    }
+
     @Test
     public void equals() {
         final ArchiveCommand standardCommand = new ArchiveCommand(INDEX_FIRST_PERSON);
@@ -137,7 +165,7 @@ public class ArchiveCommandTest {
     public void toStringMethod() {
         Index index = Index.fromOneBased(1);
         ArchiveCommand archiveCommand = new ArchiveCommand(index);
-        String expected = ArchiveCommand.class.getCanonicalName() + "{index=" + index + "}";
+        String expected = ArchiveCommand.class.getCanonicalName() + "{targets=" + IndexSelection.of(index) + "}";
         assertEquals(expected, archiveCommand.toString());
     }
 }
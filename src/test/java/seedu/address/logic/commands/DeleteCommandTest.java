@@ -10,9 +10,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -79,6 +82,49 @@ public class DeleteCommandTest {
         assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_indexRangeUnfilteredList_success() {
+        List<Person> personsToDelete = model.getFilteredPersonList().subList(0, 3);
+        DeleteCommand deleteCommand = new DeleteCommand(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(3)));
+
+        String expectedMessage = String.format(DeleteCommand.MESSAGE_DELETE_PERSONS_SUCCESS, 3);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        List.copyOf(personsToDelete).forEach(expectedModel::deletePerson);
+
+        assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_allFilteredList_deletesOnlyShownPersons() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        Person personToDelete = model.getFilteredPersonList().get(0);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(personToDelete);
+        showNoPerson(expectedModel);
+
+        assertCommandSuccess(new DeleteCommand(IndexSelection.ALL), model,
+                String.format(DeleteCommand.MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_rangeOutOfBounds_throwsCommandException() {
+        int size = model.getFilteredPersonList().size();
+        DeleteCommand deleteCommand = new DeleteCommand(
+                IndexSelection.ofRange(INDEX_FIRST_PERSON, Index.fromOneBased(size + 1)));
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_allOnEmptyList_throwsCommandException() {
+        showNoPerson(model);
+        assertCommandFailure(new DeleteCommand(IndexSelection.ALL), model, Messages.MESSAGE_NO_PERSONS_SELECTED);
+    }
+
     @Test
     public void equals() {
         DeleteCommand deleteFirstCommand = new DeleteCommand(INDEX_FIRST_PERSON);
@@ -105,7 +151,7 @@ public class DeleteCommandTest {
     public void toStringMethod() {
         Index targetIndex = Index.fromOneBased(1);
         DeleteCommand deleteCommand = new DeleteCommand(targetIndex);
-        String expected = DeleteCommand.class.getCanonicalName() + "{targetIndex=" + targetIndex + "}";
+        String expected = DeleteCommand.class.getCanonicalName() + "{targets=" + IndexSelection.of(targetIndex) + "}";
         assertEquals(expected, deleteCommand.toString());
     }
 
@@ -19,6 +19,8 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -74,6 +76,28 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(CARL, ELLE, FIONA), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_keywordsInOtherCase_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameContainsKeywordsPredicate predicate = preparePredicate("kURZ meyer");
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personRenamedAfterFind_filteredListFollowsNames() {
+        model.updateFilteredPersonList(preparePredicate("Kurz Kunz"));
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Meyer").build();
+        model.setPerson(CARL, renamedCarl);
+        assertEquals(Collections.singletonList(FIONA), model.getFilteredPersonList());
+
+        Person renamedElle = new PersonBuilder(ELLE).withName("Elle Kunz").build();
+        model.setPerson(ELLE, renamedElle);
+        assertEquals(Arrays.asList(renamedElle, FIONA), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
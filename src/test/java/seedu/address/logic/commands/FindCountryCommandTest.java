@@ -18,6 +18,8 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Country;
 import seedu.address.model.person.CountryContainsKeywordPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCountryCommand}.
@@ -76,6 +78,19 @@ public class FindCountryCommandTest {
         assertEquals(Arrays.asList(JENNY), model.getFilteredPersonList());
     }
 
+    /** Checks that the found persons follow edits and archiving made after the search. */
+    @Test
+    public void execute_personEditedAfterFind_filteredListFollowsCountry() {
+        new FindCountryCommand(preparePredicate("China")).execute(model);
+        Person movedJenny = new PersonBuilder(JENNY).withCountry("Japan").build();
+        model.setPerson(JENNY, movedJenny);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        Person archivedJenny = new PersonBuilder(movedJenny).withCountry("China").build().withArchivalStatus(true);
+        model.setPerson(movedJenny, archivedJenny);
+        assertEquals(Arrays.asList(archivedJenny), model.getFilteredPersonList());
+    }
+
     /** Tests the string representation of {@code FindCountryCommand}. */
     @Test
     public void toStringMethod() {
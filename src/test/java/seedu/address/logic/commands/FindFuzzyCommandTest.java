@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameFuzzyMatchesPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindFuzzyCommand}.
+ */
+public class FindFuzzyCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        NameFuzzyMatchesPredicate firstPredicate = new NameFuzzyMatchesPredicate(List.of("first"), 1);
+        NameFuzzyMatchesPredicate secondPredicate = new NameFuzzyMatchesPredicate(List.of("first"), 2);
+
+        FindFuzzyCommand findFirstCommand = new FindFuzzyCommand(firstPredicate);
+        FindFuzzyCommand findSecondCommand = new FindFuzzyCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindFuzzyCommand(new NameFuzzyMatchesPredicate(List.of("first"), 1))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different number of edits -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_misspeltName_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        NameFuzzyMatchesPredicate predicate = new NameFuzzyMatchesPredicate(List.of("MEIR"), 1);
+        FindFuzzyCommand command = new FindFuzzyCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noEditsAllowed_onlyExactWordsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        NameFuzzyMatchesPredicate predicate = new NameFuzzyMatchesPredicate(List.of("meir"), 0);
+        FindFuzzyCommand command = new FindFuzzyCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_severalMatches_closestMatchesListedFirst() {
+        model.updateFilteredPersonList(new NameFuzzyMatchesPredicate(List.of("meyer"), 2));
+        assertEquals(Arrays.asList(ELLE, BENSON, DANIEL), model.getFilteredPersonList());
+
+        // edits are ranked again
+        Person renamedCarl = new PersonBuilder(CARL).withName("Carl Meyr").build();
+        model.setPerson(CARL, renamedCarl);
+        assertEquals(Arrays.asList(ELLE, BENSON, renamedCarl, DANIEL), model.getFilteredPersonList());
+
+        // sorting replaces the ranking
+        model.sortPersonsByName();
+        assertEquals(Arrays.asList(BENSON, renamedCarl, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        NameFuzzyMatchesPredicate predicate = new NameFuzzyMatchesPredicate(List.of("keyword"), 2);
+        FindFuzzyCommand findFuzzyCommand = new FindFuzzyCommand(predicate);
+        String expected = FindFuzzyCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findFuzzyCommand.toString());
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesLooselyPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindLooseCommand}.
+ */
+public class FindLooseCommandTest {
+    private static final Person JOSE = new PersonBuilder().withName("José Müller")
+            .withOrganisation("Université de Montréal").build();
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        FindLooseCommand findFirstCommand = new FindLooseCommand(preparePredicate("first"));
+        FindLooseCommand findSecondCommand = new FindLooseCommand(preparePredicate("second"));
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        assertTrue(findFirstCommand.equals(new FindLooseCommand(preparePredicate("first"))));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_keywordsWithoutAccents_accentedPersonFound() {
+        model.addPerson(JOSE);
+        expectedModel.addPerson(JOSE);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonMatchesLooselyPredicate predicate = preparePredicate("JOSE kürz");
+        FindLooseCommand command = new FindLooseCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, JOSE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_organisationsInOtherForms_personsFound() {
+        model.addPerson(JOSE);
+        expectedModel.addPerson(JOSE);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        PersonMatchesLooselyPredicate predicate = new PersonMatchesLooselyPredicate(List.of("meyer"),
+                List.of("universite de montreal", "ＮＵＳ"));
+        FindLooseCommand command = new FindLooseCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, ELLE, JOSE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personRenamedAfterFind_filteredListFollowsNames() {
+        model.updateFilteredPersonList(preparePredicate("zoe"));
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+
+        Person renamedCarl = new PersonBuilder(CARL).withName("Zoë Kurz").build();
+        model.setPerson(CARL, renamedCarl);
+        assertEquals(Collections.singletonList(renamedCarl), model.getFilteredPersonList());
+
+        model.setPerson(renamedCarl, CARL);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonMatchesLooselyPredicate predicate = preparePredicate("keyword");
+        FindLooseCommand findLooseCommand = new FindLooseCommand(predicate);
+        String expected = FindLooseCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, findLooseCommand.toString());
+    }
+
+    /**
+     * Parses {@code userInput} into name keywords of a {@code PersonMatchesLooselyPredicate}.
+     */
+    private PersonMatchesLooselyPredicate preparePredicate(String userInput) {
+        return new PersonMatchesLooselyPredicate(Arrays.asList(userInput.split("\\s+")), List.of());
+    }
+}
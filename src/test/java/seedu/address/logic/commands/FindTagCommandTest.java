@@ -7,6 +7,7 @@ import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
@@ -18,8 +19,10 @@ import org.junit.jupiter.api.Test;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsTagsPredicate;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindTagCommand}.
@@ -75,6 +78,31 @@ public class FindTagCommandTest {
         assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_countryCodeTag_personsWithCountryCodeFound() {
+        Person dave = new PersonBuilder().withName("Dave Delta").withPhone("+6591234567").withTags("friends").build();
+        model.addPerson(dave);
+        expectedModel.addPerson(dave);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
+        PersonContainsTagsPredicate predicate = new PersonContainsTagsPredicate(
+                Arrays.asList(new Tag("friends"), new Tag("+65")));
+        FindTagCommand command = new FindTagCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(dave), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personEditedAfterFind_filteredListFollowsTags() {
+        model.updateFilteredPersonList(preparePredicate("friends"));
+        model.setPerson(BENSON, BENSON.withTags(Collections.emptySet()));
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+
+        model.setPerson(CARL, CARL.withTags(Collections.singleton(new Tag("friends"))));
+        assertEquals(Arrays.asList(ALICE, CARL.withTags(Collections.singleton(new Tag("friends"))), DANIEL),
+                model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         PersonContainsTagsPredicate predicate = new PersonContainsTagsPredicate(
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.storage.ContactFileReader;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final String CSV_HEADER = "name,phone,email,address\n";
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    private Path csvFile(String rows) throws Exception {
+        Path file = testFolder.resolve("contacts.csv");
+        Files.writeString(file, CSV_HEADER + rows);
+        return file;
+    }
+
+    private static String csvRow(String name) {
+        return name + ",11111111,someone@example.com,Some Street\n";
+    }
+
+    @Test
+    public void execute_newAndDuplicatePersons_importsNewPersons() throws Exception {
+        Path file = csvFile(csvRow("Amy Bee") + csvRow("alice pauline") + csvRow("AMY BEE") + csvRow("James&"));
+        int originalSize = model.getAddressBook().getPersonList().size();
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith("Imported 1 of 4 contacts from " + file), feedback);
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_SKIPPED, 2, 1)), feedback);
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 5, Name.MESSAGE_CONSTRAINTS)));
+        assertEquals(originalSize + 1, model.getAddressBook().getPersonList().size());
+        assertTrue(model.hasPerson(new PersonBuilder().withName("Amy Bee").build()));
+    }
+
+    @Test
+    public void execute_jsonFile_importsPersons() throws Exception {
+        Path file = testFolder.resolve("my contacts.json");
+        Files.writeString(file, "[{\"name\": \"Aaron Ang\", \"phone\": \"11111111\", "
+                + "\"email\": \"aaron@example.com\", \"address\": \"Aaron Street\"}]");
+
+        new ImportCommand(file).execute(model);
+
+        assertTrue(model.hasPerson(new PersonBuilder().withName("Aaron Ang").build()));
+    }
+
+    @Test
+    public void execute_newPerson_keepsSortOrder() throws Exception {
+        new ImportCommand(csvFile(csvRow("Aaron Ang"))).execute(model);
+
+        assertEquals(new Name("Aaron Ang"), model.getFilteredPersonList().get(0).getName());
+    }
+
+    @Test
+    public void execute_moreRowsThanChunkAndContactLimit_importsAll() throws Exception {
+        int count = Math.max(ContactFileReader.CHUNK_SIZE, AddCommand.MAX_NUMBER_OF_CONTACTS) + 10;
+        StringBuilder rows = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            rows.append(csvRow("Imported " + i));
+        }
+        // a duplicate of a contact in an earlier chunk
+        rows.append(csvRow("imported 0"));
+        int originalSize = model.getAddressBook().getPersonList().size();
+
+        String feedback = new ImportCommand(csvFile(rows.toString())).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_SKIPPED, 1, 0)), feedback);
+        assertEquals(originalSize + count, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_tooManyInvalidRows_listsSomeErrors() throws Exception {
+        Path file = csvFile(csvRow("James&").repeat(ImportCommand.MAX_ERRORS_SHOWN + 5));
+
+        String feedback = new ImportCommand(file).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.endsWith(String.format(ImportCommand.MESSAGE_MORE_ERRORS, 5)), feedback);
+    }
+
+    @Test
+    public void execute_malformedFile_throwsCommandException() throws Exception {
+        Path file = testFolder.resolve("contacts.csv");
+        Files.writeString(file, "name,phone\n");
+
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_READ_ERROR, file,
+                String.format(ContactFileReader.MESSAGE_MISSING_COLUMNS, "name, phone, email, address"), 0));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCsvCommand = new ImportCommand(Path.of("contacts.csv"));
+        ImportCommand importJsonCommand = new ImportCommand(Path.of("contacts.json"));
+
+        assertTrue(importCsvCommand.equals(importCsvCommand));
+        assertTrue(importCsvCommand.equals(new ImportCommand(Path.of("contacts.csv"))));
+        assertFalse(importCsvCommand.equals(1));
+        assertFalse(importCsvCommand.equals(null));
+        assertFalse(importCsvCommand.equals(importJsonCommand));
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.JENNY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.CommunicationChannel;
+import seedu.address.model.person.query.PersonMatchesQueryPredicate;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private static final PersonQuery FRIENDS = PersonQuery.tag(new Tag("friends"));
+    private static final PersonQuery NOT_ARCHIVED = PersonQuery.not(PersonQuery.archived());
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand firstCommand = new QueryCommand(new PersonMatchesQueryPredicate(FRIENDS));
+        QueryCommand secondCommand = new QueryCommand(new PersonMatchesQueryPredicate(NOT_ARCHIVED));
+
+        // same object -> returns true
+        assertTrue(firstCommand.equals(firstCommand));
+
+        // same values -> returns true
+        assertTrue(firstCommand.equals(new QueryCommand(new PersonMatchesQueryPredicate(FRIENDS))));
+
+        // different types -> returns false
+        assertFalse(firstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(firstCommand.equals(null));
+
+        // different query -> returns false
+        assertFalse(firstCommand.equals(secondCommand));
+    }
+
+    @Test
+    public void execute_indexedQuery_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonMatchesQueryPredicate predicate = new PersonMatchesQueryPredicate(PersonQuery.and(List.of(
+                FRIENDS, PersonQuery.country(new Country("Singapore")), NOT_ARCHIVED,
+                PersonQuery.not(PersonQuery.channel(CommunicationChannel.WHATSAPP)))));
+        QueryCommand command = new QueryCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unindexedQuery_personsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        PersonMatchesQueryPredicate predicate = new PersonMatchesQueryPredicate(PersonQuery.or(List.of(
+                PersonQuery.channel(CommunicationChannel.WHATSAPP), PersonQuery.country(new Country("China")))));
+        QueryCommand command = new QueryCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(BENSON, JENNY), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_personArchivedAfterQuery_filteredListFollowsArchiving() {
+        model.updateFilteredPersonList(new PersonMatchesQueryPredicate(PersonQuery.and(List.of(
+                FRIENDS, NOT_ARCHIVED))));
+        Person archivedAlice = new PersonBuilder(ALICE).archived().build();
+        model.setPerson(ALICE, archivedAlice);
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+
+        Person taggedJenny = new PersonBuilder(JENNY).withTags("friends").build();
+        model.setPerson(JENNY, taggedJenny);
+        assertEquals(Arrays.asList(BENSON, DANIEL, taggedJenny), model.getFilteredPersonList());
+
+        model.setPerson(taggedJenny, JENNY);
+        model.setPerson(archivedAlice, ALICE);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noMatch_noPersonFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
+        PersonMatchesQueryPredicate predicate = new PersonMatchesQueryPredicate(PersonQuery.archived());
+        QueryCommand command = new QueryCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonMatchesQueryPredicate predicate = new PersonMatchesQueryPredicate(FRIENDS);
+        QueryCommand queryCommand = new QueryCommand(predicate);
+        String expected = QueryCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        assertEquals(expected, queryCommand.toString());
+    }
+}
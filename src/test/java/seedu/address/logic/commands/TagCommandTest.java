@@ -0,0 +1,93 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.Messages;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code TagCommand}.
+ */
+public class TagCommandTest {
+
+    private static final Set<Tag> TAGS = Set.of(new Tag("colleagues"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_indexRange_tagsSelectedPersons() {
+        List<Person> personsToTag = List.copyOf(model.getFilteredPersonList().subList(0, 2));
+        TagCommand tagCommand = new TagCommand(IndexSelection.ofRange(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON), TAGS);
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Person person : personsToTag) {
+            Set<Tag> tags = new HashSet<>(person.getTags());
+            tags.addAll(TAGS);
+            expectedModel.setPerson(person, person.withTags(tags));
+        }
+
+        assertCommandSuccess(tagCommand, model, String.format(TagCommand.MESSAGE_TAG_SUCCESS, 2, "[colleagues]"),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_somePersonsAlreadyTagged_tagsOnlyTheRest() throws Exception {
+        new TagCommand(IndexSelection.of(INDEX_FIRST_PERSON), TAGS).execute(model);
+
+        CommandResult result = new TagCommand(IndexSelection.ALL, TAGS).execute(model);
+
+        int size = model.getFilteredPersonList().size();
+        assertEquals(String.format(TagCommand.MESSAGE_TAG_SUCCESS, size - 1, "[colleagues]"),
+                result.getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().stream().allMatch(person -> person.getTags().containsAll(TAGS)));
+    }
+
+    @Test
+    public void execute_allAlreadyTagged_throwsCommandException() {
+        Set<Tag> friends = Set.of(new Tag("friends"));
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        assertTrue(firstPerson.getTags().containsAll(friends));
+
+        assertCommandFailure(new TagCommand(IndexSelection.of(INDEX_FIRST_PERSON), friends), model,
+                TagCommand.MESSAGE_ALREADY_TAGGED);
+    }
+
+    @Test
+    public void execute_indexOutOfBounds_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(new TagCommand(IndexSelection.of(outOfBoundIndex), TAGS), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        TagCommand tagCommand = new TagCommand(IndexSelection.ALL, TAGS);
+
+        assertTrue(tagCommand.equals(tagCommand));
+        assertTrue(tagCommand.equals(new TagCommand(IndexSelection.ALL, Set.of(new Tag("colleagues")))));
+
+        assertFalse(tagCommand.equals(null));
+        assertFalse(tagCommand.equals(new UntagCommand(IndexSelection.ALL, TAGS)));
+        assertFalse(tagCommand.equals(new TagCommand(IndexSelection.of(INDEX_FIRST_PERSON), TAGS)));
+        assertFalse(tagCommand.equals(new TagCommand(IndexSelection.ALL, Set.of(new Tag("friends")))));
+    }
+}
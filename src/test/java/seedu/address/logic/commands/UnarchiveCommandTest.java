@@ -9,9 +9,12 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
@@ -113,6 +116,20 @@ public class UnarchiveCommandTest {
         assertCommandFailure(unarchiveCommand, model, Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
     }
 
+    @Test
+    public void execute_all_unarchivesEveryShownPerson() throws Exception {
+        List.copyOf(model.getFilteredPersonList())
+                .forEach(person -> model.setPerson(person, new PersonBuilder(person).archived().build()));
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_ARCHIVED);
+        int archivedCount = model.getFilteredPersonList().size();
+
+        CommandResult result = new UnarchiveCommand(IndexSelection.ALL).execute(model);
+
+        assertEquals(String.format(UnarchiveCommand.MESSAGE_UNARCHIVE_PERSONS_SUCCESS, archivedCount, 0),
+                result.getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPersonList().stream().noneMatch(Person::getArchivalStatus));
+    }
+
     @Test
     public void equals() {
         final UnarchiveCommand standardCommand = new UnarchiveCommand(INDEX_FIRST_PERSON);
@@ -144,7 +161,7 @@ public class UnarchiveCommandTest {
     public void toStringMethod() {
         Index index = Index.fromOneBased(1);
         UnarchiveCommand unarchiveCommand = new UnarchiveCommand(index);
-        String expected = UnarchiveCommand.class.getCanonicalName() + "{index=" + index + "}";
+        String expected = UnarchiveCommand.class.getCanonicalName() + "{targets=" + IndexSelection.of(index) + "}";
         assertEquals(expected, unarchiveCommand.toString());
     }
 }
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Contains integration tests (interaction with the Model) and unit tests for {@code UntagCommand}.
+ */
+public class UntagCommandTest {
+
+    private static final Set<Tag> FRIENDS = Set.of(new Tag("friends"));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_all_untagsPersonsWithTag() {
+        List<Person> taggedPersons = model.getFilteredPersonList().stream()
+                .filter(person -> person.getTags().containsAll(FRIENDS))
+                .collect(Collectors.toList());
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Person person : taggedPersons) {
+            Set<Tag> tags = new HashSet<>(person.getTags());
+            tags.removeAll(FRIENDS);
+            expectedModel.setPerson(person, person.withTags(tags));
+        }
+
+        assertCommandSuccess(new UntagCommand(IndexSelection.ALL, FRIENDS), model,
+                String.format(UntagCommand.MESSAGE_UNTAG_SUCCESS, taggedPersons.size(), "[friends]"), expectedModel);
+        assertTrue(model.getFilteredPersonList().stream().noneMatch(person -> person.getTags().containsAll(FRIENDS)));
+    }
+
+    @Test
+    public void execute_noneTagged_throwsCommandException() {
+        assertCommandFailure(new UntagCommand(IndexSelection.of(INDEX_FIRST_PERSON), Set.of(new Tag("unused"))),
+                model, UntagCommand.MESSAGE_NOT_TAGGED);
+    }
+
+    @Test
+    public void equals() {
+        UntagCommand untagCommand = new UntagCommand(IndexSelection.ALL, FRIENDS);
+
+        assertTrue(untagCommand.equals(untagCommand));
+        assertTrue(untagCommand.equals(new UntagCommand(IndexSelection.ALL, Set.of(new Tag("friends")))));
+
+        assertFalse(untagCommand.equals(null));
+        assertFalse(untagCommand.equals(new TagCommand(IndexSelection.ALL, FRIENDS)));
+        assertFalse(untagCommand.equals(new UntagCommand(IndexSelection.of(INDEX_FIRST_PERSON), FRIENDS)));
+    }
+}
@@ -6,11 +6,14 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.ArchiveCommand;
@@ -21,12 +24,23 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FindFuzzyCommand;
+import seedu.address.logic.commands.FindLooseCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.logic.commands.SearchCommand;
 import seedu.address.logic.commands.UnarchiveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameFuzzyMatchesPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonMatchesLooselyPredicate;
+import seedu.address.model.person.PersonMatchesPrefixesPredicate;
+import seedu.address.model.person.query.PersonMatchesQueryPredicate;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -50,6 +64,17 @@ public class AddressBookParserTest {
         assertEquals(new AddCommand(person), command);
     }
 
+    /**
+     * Tests parsing of the import command with a file path.
+     */
+    @Test
+    public void parseCommand_import(@TempDir Path testFolder) throws Exception {
+        Path file = testFolder.resolve("contacts.csv");
+        Files.writeString(file, "name,phone,email,address\n");
+        ImportCommand command = (ImportCommand) parser.parseCommand(ImportCommand.COMMAND_WORD + " " + file);
+        assertEquals(new ImportCommand(file), command);
+    }
+
     /**
      * Tests parsing of the clear command with or without arguments.
      */
@@ -101,6 +126,35 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_findFuzzy() throws Exception {
+        FindFuzzyCommand command = (FindFuzzyCommand) parser.parseCommand(FindFuzzyCommand.COMMAND_WORD + " Jonh 1");
+        assertEquals(new FindFuzzyCommand(new NameFuzzyMatchesPredicate(List.of("Jonh"), 1)), command);
+    }
+
+    @Test
+    public void parseCommand_findLoose() throws Exception {
+        FindLooseCommand command = (FindLooseCommand) parser.parseCommand(
+                FindLooseCommand.COMMAND_WORD + " jose organisation:universite");
+        assertEquals(new FindLooseCommand(new PersonMatchesLooselyPredicate(
+                List.of("jose"), List.of("universite"))), command);
+    }
+
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(
+                QueryCommand.COMMAND_WORD + " tag:vip AND NOT archived");
+        assertEquals(new QueryCommand(new PersonMatchesQueryPredicate(PersonQuery.and(List.of(
+                PersonQuery.tag(new Tag("vip")), PersonQuery.not(PersonQuery.archived()))))), command);
+    }
+
+    @Test
+    public void parseCommand_search() throws Exception {
+        SearchCommand command = (SearchCommand) parser.parseCommand(SearchCommand.COMMAND_WORD + " al tag:fri");
+        assertEquals(new SearchCommand(new PersonMatchesPrefixesPredicate(
+                List.of("al"), List.of("fri"), List.of(), List.of())), command);
+    }
+
     /**
      * Tests parsing of the help command with or without arguments.
      */
@@ -7,6 +7,9 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
+
 import seedu.address.logic.commands.DeleteCommand;
 
 /**
@@ -25,6 +28,15 @@ public class DeleteCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteCommand(INDEX_FIRST_PERSON));
     }
 
+    @Test
+    public void parse_indexListAndRanges_returnsDeleteCommand() {
+        IndexSelection targets = IndexSelection.of(Index.fromOneBased(3))
+                .union(IndexSelection.of(Index.fromOneBased(7)))
+                .union(IndexSelection.ofRange(Index.fromOneBased(9), Index.fromOneBased(12)));
+        assertParseSuccess(parser, "3,7,9-12", new DeleteCommand(targets));
+        assertParseSuccess(parser, "all", new DeleteCommand(IndexSelection.ALL));
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_COMMAND_FORMAT, DeleteCommand.MESSAGE_USAGE));
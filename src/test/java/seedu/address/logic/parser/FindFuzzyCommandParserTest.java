@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindFuzzyCommand;
+import seedu.address.model.person.NameFuzzyMatchesPredicate;
+
+public class FindFuzzyCommandParserTest {
+
+    private FindFuzzyCommandParser parser = new FindFuzzyCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindFuzzyCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_tooManyEdits_throwsParseException() {
+        assertParseFailure(parser, "Jonh 3", FindFuzzyCommandParser.MESSAGE_INVALID_MAX_EDITS);
+        assertParseFailure(parser, "Jonh 99999999999", FindFuzzyCommandParser.MESSAGE_INVALID_MAX_EDITS);
+    }
+
+    @Test
+    public void parse_wordsOnly_usesDefaultEdits() {
+        FindFuzzyCommand expectedCommand = new FindFuzzyCommand(
+                new NameFuzzyMatchesPredicate(List.of("Jonh", "Smiht"), FindFuzzyCommand.DEFAULT_MAX_EDITS));
+        assertParseSuccess(parser, " \n Jonh \t Smiht ", expectedCommand);
+
+        // a single number is a name word, not a number of edits
+        assertParseSuccess(parser, "1", new FindFuzzyCommand(
+                new NameFuzzyMatchesPredicate(List.of("1"), FindFuzzyCommand.DEFAULT_MAX_EDITS)));
+    }
+
+    @Test
+    public void parse_trailingNumber_usesAsEdits() {
+        FindFuzzyCommand expectedCommand = new FindFuzzyCommand(
+                new NameFuzzyMatchesPredicate(List.of("Jonh"), 1));
+        assertParseSuccess(parser, "Jonh 1", expectedCommand);
+    }
+}
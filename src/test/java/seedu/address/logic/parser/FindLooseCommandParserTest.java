@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FindLooseCommand;
+import seedu.address.model.person.PersonMatchesLooselyPredicate;
+
+public class FindLooseCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindLooseCommand.MESSAGE_USAGE);
+
+    private FindLooseCommandParser parser = new FindLooseCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_blankOrganisation_throwsParseException() {
+        assertParseFailure(parser, "jose organisation: ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_keywordsAndOrganisations_returnsFindLooseCommand() {
+        FindLooseCommand expectedCommand = new FindLooseCommand(new PersonMatchesLooselyPredicate(
+                List.of("José", "muller"), List.of("Université de Montréal")));
+        assertParseSuccess(parser, "José muller organisation:Université de Montréal", expectedCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n José \n \t muller  \t organisation: Université de Montréal ", expectedCommand);
+    }
+
+    @Test
+    public void parse_organisationOnly_returnsFindLooseCommand() {
+        FindLooseCommand expectedCommand = new FindLooseCommand(new PersonMatchesLooselyPredicate(
+                List.of(), List.of("nus", "ntu")));
+        assertParseSuccess(parser, " organisation:nus organisation:ntu", expectedCommand);
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ImportCommand;
+import seedu.address.storage.ContactFileReader;
+
+public class ImportCommandParserTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private ImportCommandParser parser = new ImportCommandParser();
+
+    @Test
+    public void parse_existingFile_returnsImportCommand() throws Exception {
+        Path file = testFolder.resolve("my contacts.json");
+        Files.writeString(file, "[]");
+        assertParseSuccess(parser, " " + file + " ", new ImportCommand(file));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unsupportedExtension_throwsParseException() {
+        assertParseFailure(parser, "contacts.txt", ContactFileReader.MESSAGE_UNSUPPORTED_FORMAT);
+    }
+
+    @Test
+    public void parse_missingFile_throwsParseException() {
+        Path file = testFolder.resolve("missing.csv");
+        assertParseFailure(parser, file.toString(), String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_SELECTION;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
@@ -13,6 +14,8 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Country;
@@ -59,6 +62,23 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST_PERSON, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexSelection_validInput_success() throws Exception {
+        assertEquals(IndexSelection.of(INDEX_FIRST_PERSON), ParserUtil.parseIndexSelection(" 1 "));
+        assertEquals(IndexSelection.ALL, ParserUtil.parseIndexSelection(" ALL "));
+        assertEquals(IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(5))
+                        .union(IndexSelection.of(Index.fromOneBased(8))),
+                ParserUtil.parseIndexSelection("1 - 5, 8"));
+    }
+
+    @Test
+    public void parseIndexSelection_invalidInput_throwsParseException() {
+        for (String invalidSelection : new String[] {"", "1,", "5-2", "1-2-3", "0-2", "a-b", "every"}) {
+            assertThrows(ParseException.class, MESSAGE_INVALID_INDEX_SELECTION, () ->
+                    ParserUtil.parseIndexSelection(invalidSelection));
+        }
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
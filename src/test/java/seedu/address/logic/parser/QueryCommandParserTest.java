@@ -0,0 +1,98 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.QueryCommand;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Offset;
+import seedu.address.model.person.Person.CommunicationChannel;
+import seedu.address.model.person.PreferredLanguage;
+import seedu.address.model.person.query.PersonMatchesQueryPredicate;
+import seedu.address.model.person.query.PersonQuery;
+import seedu.address.model.tag.Tag;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final PersonQuery VIP = PersonQuery.tag(new Tag("vip"));
+    private static final PersonQuery JAPAN = PersonQuery.country(new Country("Japan"));
+    private static final PersonQuery KOREA = PersonQuery.country(new Country("South Korea"));
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_danglingOperator_throwsParseException() {
+        assertParseFailure(parser, "tag:vip AND", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "OR tag:vip", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "NOT", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_unbalancedParentheses_throwsParseException() {
+        assertParseFailure(parser, "(tag:vip OR archived", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, "tag:vip)", QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES);
+    }
+
+    @Test
+    public void parse_invalidTerms_throwsParseException() {
+        assertParseFailure(parser, "vip", String.format(QueryCommandParser.MESSAGE_INVALID_TERM, "vip"));
+        assertParseFailure(parser, "tag:", String.format(QueryCommandParser.MESSAGE_INVALID_TERM, "tag:"));
+        assertParseFailure(parser, "tag>vip", String.format(QueryCommandParser.MESSAGE_INVALID_TERM, "tag>vip"));
+        assertParseFailure(parser, "phone:123", String.format(QueryCommandParser.MESSAGE_UNKNOWN_FIELD, "phone"));
+        assertParseFailure(parser, "channel:pigeon",
+                String.format(QueryCommandParser.MESSAGE_INVALID_CHANNEL, "pigeon"));
+        assertParseFailure(parser, "addedon>yesterday",
+                String.format(QueryCommandParser.MESSAGE_INVALID_DATE, "yesterday"));
+        assertParseFailure(parser, "country:\"South Korea", QueryCommandParser.MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr_returnsQueryCommand() {
+        PersonQuery expected = PersonQuery.or(List.of(PersonQuery.and(List.of(VIP, JAPAN)), KOREA));
+        assertParseSuccess(parser, "tag:vip AND country:Japan OR country:\"South Korea\"", command(expected));
+
+        // adjacent terms are joined by AND, and operators are case-insensitive
+        assertParseSuccess(parser, " tag:vip  country:japan or country:\"south korea\" ", command(expected));
+    }
+
+    @Test
+    public void parse_parenthesesAndNot_returnsQueryCommand() {
+        PersonQuery expected = PersonQuery.and(List.of(VIP, PersonQuery.or(List.of(JAPAN, KOREA)),
+                PersonQuery.not(PersonQuery.archived())));
+        assertParseSuccess(parser, "tag:vip AND (country:Japan OR country:\"South Korea\") AND NOT archived",
+                command(expected));
+    }
+
+    @Test
+    public void parse_everyField_returnsQueryCommand() {
+        PersonQuery expected = PersonQuery.and(List.of(
+                PersonQuery.and(List.of(PersonQuery.nameWord("alex"), PersonQuery.nameWord("yeoh"))),
+                PersonQuery.organisation("Acme Corp"),
+                PersonQuery.language(new PreferredLanguage("japanese")),
+                PersonQuery.channel(CommunicationChannel.TELEGRAM),
+                PersonQuery.offset(new Offset("+09:00")),
+                PersonQuery.addedAfter(LocalDate.of(2024, 1, 1)),
+                PersonQuery.addedBefore(LocalDate.of(2025, 1, 1)),
+                PersonQuery.addedOn(LocalDate.of(2024, 6, 1))));
+        assertParseSuccess(parser, "name:\"alex yeoh\" org:\"Acme Corp\" language:Japanese channel:telegram "
+                + "offset:+09:00 addedon>2024-01-01 addedon<2025-01-01 ADDEDON:2024-06-01", command(expected));
+    }
+
+    private static QueryCommand command(PersonQuery query) {
+        return new QueryCommand(new PersonMatchesQueryPredicate(query));
+    }
+}
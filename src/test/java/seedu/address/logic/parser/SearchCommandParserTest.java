@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SearchCommand;
+import seedu.address.model.person.PersonMatchesPrefixesPredicate;
+
+public class SearchCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE);
+
+    private SearchCommandParser parser = new SearchCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_blankFieldPrefix_throwsParseException() {
+        assertParseFailure(parser, "al tag: ", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_namePrefixes_returnsSearchCommand() {
+        SearchCommand expectedCommand = new SearchCommand(new PersonMatchesPrefixesPredicate(
+                List.of("Al", "bo"), List.of(), List.of(), List.of()));
+        assertParseSuccess(parser, "Al bo", expectedCommand);
+
+        // multiple whitespaces between prefixes
+        assertParseSuccess(parser, " \n Al \n \t bo  \t", expectedCommand);
+    }
+
+    @Test
+    public void parse_fieldPrefixes_returnsSearchCommand() {
+        SearchCommand expectedCommand = new SearchCommand(new PersonMatchesPrefixesPredicate(
+                List.of(), List.of("fri", "own"), List.of("N"), List.of("united st")));
+        assertParseSuccess(parser, " tag:fri organisation:N tag:own country:united st", expectedCommand);
+    }
+}
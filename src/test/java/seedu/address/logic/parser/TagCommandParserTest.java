@@ -0,0 +1,41 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.commands.TagCommand;
+import seedu.address.model.tag.Tag;
+
+public class TagCommandParserTest {
+
+    private TagCommandParser parser = new TagCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsTagCommand() {
+        IndexSelection targets = IndexSelection.ofRange(Index.fromOneBased(1), Index.fromOneBased(3))
+                .union(IndexSelection.of(Index.fromOneBased(7)));
+        assertParseSuccess(parser, " 1-3,7 tag:friends tag:colleagues",
+                new TagCommand(targets, Set.of(new Tag("friends"), new Tag("colleagues"))));
+        assertParseSuccess(parser, " all tag:friends", new TagCommand(IndexSelection.ALL, Set.of(new Tag("friends"))));
+    }
+
+    @Test
+    public void parse_missingParts_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, TagCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " 1-3", expectedMessage);
+        assertParseFailure(parser, " tag:friends", expectedMessage);
+        assertParseFailure(parser, " 3-1 tag:friends", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidTag_throwsParseException() {
+        assertParseFailure(parser, " 1 tag:hubby*", Tag.MESSAGE_CONSTRAINTS);
+    }
+}
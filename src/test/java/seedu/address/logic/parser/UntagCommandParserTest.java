@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.IndexSelection;
+import seedu.address.logic.commands.UntagCommand;
+import seedu.address.model.tag.Tag;
+
+public class UntagCommandParserTest {
+
+    private UntagCommandParser parser = new UntagCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsUntagCommand() {
+        assertParseSuccess(parser, " all tag:friends",
+                new UntagCommand(IndexSelection.ALL, Set.of(new Tag("friends"))));
+    }
+
+    @Test
+    public void parse_missingTags_throwsParseException() {
+        assertParseFailure(parser, " all", String.format(MESSAGE_INVALID_COMMAND_FORMAT, UntagCommand.MESSAGE_USAGE));
+    }
+}
@@ -7,6 +7,9 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -17,6 +20,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -83,12 +87,70 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void batch_severalChanges_notifiesListenersOnce() {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        int[] changeCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Zed Meier").build();
+        addressBook.batch(book -> {
+            book.addPerson(CARL);
+            book.setPerson(BENSON, editedBenson);
+            book.removePerson(ALICE);
+            book.addPerson(DANIEL);
+        });
+
+        assertEquals(1, changeCount[0]);
+        assertEquals(Arrays.asList(CARL, DANIEL, editedBenson), addressBook.getPersonList());
+    }
+
+    @Test
+    public void batch_noChanges_doesNotNotifyListeners() {
+        addressBook.addPerson(ALICE);
+        int[] changeCount = {0};
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        addressBook.batch(book -> book.hasPerson(ALICE));
+
+        assertEquals(0, changeCount[0]);
+    }
+
+    @Test
+    public void batch_changesThrow_keepsEarlierChanges() {
+        assertThrows(DuplicatePersonException.class, () -> addressBook.batch(book -> {
+            book.addPerson(ALICE);
+            book.addPerson(ALICE);
+        }));
+        assertEquals(Collections.singletonList(ALICE), addressBook.getPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
         assertEquals(expected, addressBook.toString());
     }
 
+    @Test
+    public void getModificationCount_changesToPersons_grows() {
+        long initialCount = addressBook.getModificationCount();
+        addressBook.addPerson(ALICE);
+        long afterAdd = addressBook.getModificationCount();
+        assertTrue(afterAdd > initialCount);
+
+        addressBook.sortByDate();
+        addressBook.sortByCountry();
+        assertEquals(afterAdd, addressBook.getModificationCount());
+
+        addressBook.setPerson(ALICE, ALICE.withArchivalStatus(true));
+        long afterSet = addressBook.getModificationCount();
+        assertTrue(afterSet > afterAdd);
+
+        addressBook.removePerson(ALICE.withArchivalStatus(true));
+        assertTrue(addressBook.getModificationCount() > afterSet);
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -3,20 +3,30 @@ package seedu.address.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ARCHIVED;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_UNARCHIVED;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameFuzzyMatchesPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -29,6 +39,18 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void getAddressBookModificationCount_filterAndSort_unchanged() {
+        modelManager.addPerson(ALICE);
+        long count = modelManager.getAddressBookModificationCount();
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_ARCHIVED);
+        modelManager.sortPersonsByCountry();
+        assertEquals(count, modelManager.getAddressBookModificationCount());
+
+        modelManager.deletePerson(ALICE);
+        assertTrue(modelManager.getAddressBookModificationCount() > count);
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -88,6 +110,99 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void updateFilteredPersonList_samePredicateAfterEdit_notEvaluatedAgain() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        int[] evaluations = {0};
+        Predicate<Person> owesMoney = person -> {
+            evaluations[0]++;
+            return person.getTags().contains(new Tag("owesMoney"));
+        };
+        modelManager.updateFilteredPersonList(owesMoney);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        Person indebtedAlice = new PersonBuilder(ALICE).withTags("owesMoney").build();
+        modelManager.setPerson(ALICE, indebtedAlice);
+        modelManager.updateFilteredPersonList(modelManager.getCurrentPersonListPredicate());
+        assertEquals(List.of(indebtedAlice, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(3, evaluations[0]);
+
+        // switching back to a recent predicate uses its remembered result
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
+        modelManager.updateFilteredPersonList(owesMoney);
+        assertEquals(List.of(indebtedAlice, BENSON), modelManager.getFilteredPersonList());
+        assertEquals(3, evaluations[0]);
+    }
+
+    @Test
+    public void updateFilteredPersonList_sameRankedPredicateAfterSort_rankedAgain() {
+        Person alicd = new PersonBuilder(ALICE).withName("Alicd Aaron").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(alicd);
+        modelManager.updateFilteredPersonList(new NameFuzzyMatchesPredicate(List.of("Alice"), 1));
+        assertEquals(List.of(ALICE, alicd), modelManager.getFilteredPersonList());
+
+        modelManager.sortPersonsByName();
+        assertEquals(List.of(alicd, ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameFuzzyMatchesPredicate(List.of("Alice"), 1));
+        assertEquals(List.of(ALICE, alicd), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_archivalPartitions_followArchiving() {
+        Person archivedBenson = BENSON.withArchivalStatus(true);
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(archivedBenson);
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_ARCHIVED);
+        assertEquals(List.of(archivedBenson), modelManager.getFilteredPersonList());
+        Person archivedAlice = ALICE.withArchivalStatus(true);
+        modelManager.setPerson(ALICE, archivedAlice);
+        assertEquals(List.of(archivedAlice, archivedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(List.of("Benson")));
+        assertEquals(List.of(archivedBenson), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+        modelManager.setPerson(archivedBenson, BENSON);
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void archivedPersonsLoadedLater_addedWhenFirstNeeded() {
+        AddressBook unarchived = new AddressBookBuilder().withPerson(ALICE).build();
+        unarchived.setHasAllArchivedPersons(false);
+        Person archivedBenson = BENSON.withArchivalStatus(true);
+        Person archivedCarl = CARL.withArchivalStatus(true);
+        CompletableFuture<List<Person>> archivedPersons = new CompletableFuture<>();
+        modelManager = new ModelManager(unarchived, new UserPrefs(), archivedPersons);
+
+        // listing and archiving do not need the archived persons
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_UNARCHIVED);
+        modelManager.batch(book -> book.setPerson(ALICE, ALICE.withArchivalStatus(true)));
+        assertFalse(modelManager.getAddressBook().hasAllArchivedPersons());
+
+        archivedPersons.complete(List.of(archivedBenson, archivedCarl, ALICE.withArchivalStatus(true)));
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_ARCHIVED);
+        assertEquals(List.of(ALICE.withArchivalStatus(true), archivedBenson, archivedCarl),
+                modelManager.getFilteredPersonList());
+        assertTrue(modelManager.getAddressBook().hasAllArchivedPersons());
+    }
+
+    @Test
+    public void archivedPersonsFailToLoad_continuesWithoutThemAndKeepsThemStored() {
+        AddressBook unarchived = new AddressBookBuilder().withPerson(ALICE).build();
+        unarchived.setHasAllArchivedPersons(false);
+        modelManager = new ModelManager(unarchived, new UserPrefs(),
+                CompletableFuture.failedFuture(new IOException("unreadable")));
+
+        assertFalse(modelManager.hasPerson(BENSON));
+        assertFalse(modelManager.getAddressBook().hasAllArchivedPersons());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -89,4 +91,13 @@ public class CountryTest {
         // different values -> returns false
         assertFalse(country.equals(new Country("United States")));
     }
+
+    @Test
+    public void of_differentCase_returnsSameNormalizedInstance() {
+        Country japan = Country.of("Japan");
+        assertSame(japan, Country.of(" japan "));
+        assertSame(japan, Country.of("JAPAN"));
+        assertEquals("Japan", Country.of("jApAn").value);
+        assertThrows(IllegalArgumentException.class, () -> Country.of("Atlantis"));
+    }
 }
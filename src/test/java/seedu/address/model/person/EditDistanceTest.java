@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class EditDistanceTest {
+
+    private static final List<String> WORDS = List.of("john", "jon", "joan", "jane", "bob", "johnny", "jonathan",
+            "joe", "anne", "jo", "johan", "jhon", "xavier");
+
+    @Test
+    public void between() {
+        assertEquals(0, EditDistance.between("jose", "jose"));
+        assertEquals(1, EditDistance.between("jose", "josé"));
+        assertEquals(1, EditDistance.between("jon", "john"));
+        assertEquals(2, EditDistance.between("jonh", "john"));
+        assertEquals(3, EditDistance.between("kitten", "sitting"));
+        assertEquals(4, EditDistance.between("", "anna"));
+    }
+
+    @Test
+    public void forEachWithin_findsExactlyWordsWithinDistance() {
+        TreeSet<String> words = new TreeSet<>(WORDS);
+        for (String query : List.of("jonh", "j", "jonathon", "bbo", "zzzz")) {
+            for (int maxDistance = 0; maxDistance <= 3; maxDistance++) {
+                Map<String, Integer> found = new LinkedHashMap<>();
+                EditDistance.forEachWithin(words, query, maxDistance, found::put);
+
+                Map<String, Integer> expected = new LinkedHashMap<>();
+                for (String word : words) {
+                    int distance = EditDistance.between(query, word);
+                    if (distance <= maxDistance) {
+                        expected.put(word, distance);
+                    }
+                }
+                assertEquals(expected, found, "query " + query + " within " + maxDistance);
+            }
+        }
+    }
+
+    @Test
+    public void forEachWithin_noWords_findsNothing() {
+        EditDistance.forEachWithin(new TreeSet<>(), "john", 3, (word, distance) -> {
+            throw new AssertionError("Found " + word + " in no words");
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FilterResultCacheTest {
+
+    private final UniquePersonList list = new UniquePersonList();
+    private FilterResultCache cache;
+    private CountingPredicate friends;
+
+    @BeforeEach
+    public void setUp() {
+        list.setPersons(List.of(ALICE, BENSON, CARL));
+        cache = list.getFilterResults();
+        friends = new CountingPredicate("friends");
+    }
+
+    @Test
+    public void filterFor_samePredicateAgain_usesRememberedResult() {
+        Predicate<Person> filter = cache.filterFor(friends, friends);
+        assertEquals(3, friends.count);
+        assertTrue(filter.test(ALICE));
+        assertFalse(filter.test(CARL));
+
+        Predicate<Person> filterAgain = cache.filterFor(friends, friends);
+        assertEquals(3, friends.count);
+        assertEquals(1, cache.getHitCount());
+        assertTrue(filterAgain.test(BENSON));
+    }
+
+    @Test
+    public void filterFor_afterAddEditAndRemove_onlyChangedPersonsTested() {
+        Predicate<Person> filter = cache.filterFor(friends, friends);
+        Person taggedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        list.setPerson(CARL, taggedCarl);
+        list.remove(ALICE);
+        Person dave = new PersonBuilder().withName("Dave").withTags("friends").build();
+        list.add(dave);
+        assertEquals(5, friends.count);
+
+        assertTrue(filter.test(taggedCarl));
+        assertTrue(filter.test(dave));
+        assertFalse(filter.test(ALICE));
+        cache.filterFor(friends, friends);
+        assertEquals(5, friends.count);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void filterFor_afterListReplaced_evaluatesAgain() {
+        Predicate<Person> filter = cache.filterFor(friends, friends);
+        Person taggedCarl = new PersonBuilder(CARL).withTags("friends").build();
+        list.setPersons(List.of(taggedCarl));
+
+        // the discarded result falls back to evaluating the predicate
+        assertTrue(filter.test(taggedCarl));
+        assertEquals(4, friends.count);
+
+        cache.filterFor(friends, friends);
+        assertEquals(5, friends.count);
+        assertEquals(0, cache.getHitCount());
+    }
+
+    @Test
+    public void filterFor_morePredicatesThanCapacity_leastRecentlyUsedEvaluatedAgain() {
+        cache.filterFor(friends, friends);
+        for (int i = 0; i < FilterResultCache.CAPACITY; i++) {
+            CountingPredicate other = new CountingPredicate("tag" + i);
+            cache.filterFor(other, other);
+        }
+        cache.filterFor(friends, friends);
+        assertEquals(6, friends.count);
+        assertEquals(0, cache.getHitCount());
+    }
+
+    /**
+     * Matches persons with a tag, counting how many persons it has tested.
+     */
+    private static class CountingPredicate implements Predicate<Person> {
+        private final String tagName;
+        private int count = 0;
+
+        CountingPredicate(String tagName) {
+            this.tagName = tagName;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            count++;
+            return person.getTags().stream().anyMatch(tag -> tag.tagName.equals(tagName));
+        }
+    }
+}
@@ -7,9 +7,11 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -74,6 +76,22 @@ public class NameContainsKeywordsPredicateTest {
                 .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
 
+    @Test
+    public void bindTo_addressBook_matchesUnionOfNameWords() {
+        Person aliceBob = new PersonBuilder().withName("Alice Bob").build();
+        Person carol = new PersonBuilder().withName("Carol").build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(List.of(aliceBob, carol));
+        Predicate<Person> bound = new NameContainsKeywordsPredicate(List.of("bOB", "dave"))
+                .bindTo(addressBook.getIndexes());
+        assertTrue(bound.test(aliceBob));
+        assertFalse(bound.test(carol));
+
+        Person dave = new PersonBuilder().withName("Dave").build();
+        addressBook.addPerson(dave);
+        assertTrue(bound.test(dave));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
@@ -72,6 +72,15 @@ public class NameTest {
         assertTrue(name1.hashCode() == name2.hashCode());
     }
 
+    @Test
+    public void hashCode_sameForNamesDifferingOnlyInCase() {
+        Name name1 = new Name("Charlie Brown");
+        Name name2 = new Name("cHARLIE bROWN");
+        assertTrue(name1.equals(name2));
+        assertTrue(name1.hashCode() == name2.hashCode());
+        assertTrue(name1.getIdentityKey().equals(name2.getIdentityKey()));
+    }
+
     @Test
     public void hashCode_differentForDifferentNames() {
         Name name1 = new Name("Charlie");
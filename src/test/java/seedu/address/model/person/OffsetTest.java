@@ -3,6 +3,7 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -347,5 +348,12 @@ public class OffsetTest {
             assertEquals(o1.hashCode(), o2.hashCode());
         }
     }
-}
 
+    @Test
+    public void of_sameOffset_returnsSameInstance() {
+        Offset offset = Offset.of("+05:30");
+        assertSame(offset, Offset.of("+05:30"));
+        assertEquals(330, offset.getTotalMinutes());
+        assertThrows(IllegalArgumentException.class, () -> Offset.of("+05:15"));
+    }
+}
@@ -2,7 +2,9 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -219,4 +221,12 @@ public class OrganisationTest {
             assertEquals(org1.hashCode(), org2.hashCode());
         }
     }
+
+    @Test
+    public void of_sameOrganisation_returnsSameInstance() {
+        Organisation organisation = Organisation.of("Université de Montréal");
+        assertSame(organisation, Organisation.of("Université de Montréal"));
+        assertSame(organisation.getLooseKey(), Organisation.of("Université de Montréal").getLooseKey());
+        assertThrows(IllegalArgumentException.class, () -> Organisation.of("x".repeat(61)));
+    }
 }
@@ -0,0 +1,84 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonChangeLogTest {
+
+    private final UniquePersonList list = new UniquePersonList();
+
+    @BeforeEach
+    public void setUp() {
+        list.setPersons(List.of(ALICE, BENSON, CARL));
+    }
+
+    private static String keyOf(Person person) {
+        return person.getName().getIdentityKey();
+    }
+
+    @Test
+    public void changesSince_noChanges_empty() {
+        PersonChangeLog earlier = list.getChangeLog();
+        assertEquals(Map.of(), list.getChangeLog().changesSince(earlier).get());
+    }
+
+    @Test
+    public void changesSince_addEditAndRemove_lastStateOfEachChangedPerson() {
+        PersonChangeLog earlier = list.getChangeLog();
+        Person editedCarl = new PersonBuilder(CARL).withAddress("1 New Street").build();
+        list.add(HOON);
+        list.remove(HOON);
+        list.setPerson(CARL, editedCarl);
+        list.remove(ALICE);
+
+        Map<String, Person> changes = list.getChangeLog().changesSince(earlier).get();
+
+        assertEquals(3, changes.size());
+        assertNull(changes.get(keyOf(HOON)));
+        assertNull(changes.get(keyOf(ALICE)));
+        assertEquals(editedCarl, changes.get(keyOf(CARL)));
+    }
+
+    @Test
+    public void changesSince_laterLogTakenBefore_unaffectedByLaterChanges() {
+        PersonChangeLog earlier = list.getChangeLog();
+        list.add(HOON);
+        PersonChangeLog later = list.getChangeLog();
+        list.remove(BENSON);
+
+        assertEquals(Map.of(keyOf(HOON), HOON), later.changesSince(earlier).get());
+    }
+
+    @Test
+    public void changesSince_changesNotKnown_empty() {
+        PersonChangeLog earlier = list.getChangeLog();
+        assertFalse(list.getChangeLog().changesSince(null).isPresent());
+        assertFalse(earlier.changesSince(new UniquePersonList().getChangeLog()).isPresent());
+
+        list.add(HOON);
+        assertFalse(earlier.changesSince(list.getChangeLog()).isPresent());
+
+        list.setPersons(List.of(ALICE));
+        assertFalse(list.getChangeLog().changesSince(earlier).isPresent());
+
+        PersonChangeLog afterReplacement = list.getChangeLog();
+        for (int i = 0; i < PersonChangeLog.REMEMBERED_CHANGES; i++) {
+            list.add(HOON);
+            list.remove(HOON);
+        }
+        assertFalse(list.getChangeLog().changesSince(afterReplacement).isPresent());
+    }
+}
@@ -109,4 +109,25 @@ public class PersonTest {
             + ", tags=" + ALICE.getTags() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    @Test
+    public void getNameSortKey_namesDifferingOnlyInCase_equalKeys() {
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        assertEquals(0, ALICE.getNameSortKey().compareTo(lowerCaseAlice.getNameSortKey()));
+        assertTrue(ALICE.getNameSortKey().compareTo(BOB.getNameSortKey()) < 0);
+    }
+
+    @Test
+    public void getCountrySortKey() {
+        assertEquals("singapore", new PersonBuilder().withCountry("Singapore").build().getCountrySortKey());
+        assertEquals(Person.BLANK_COUNTRY_SORT_KEY, new PersonBuilder().withCountry("").build().getCountrySortKey());
+    }
+
+    @Test
+    public void getAddedOnSortKey_ordersByAddedOn() {
+        Person earlier = new PersonBuilder().withAddedOn("2023-11-15T14:30:00").build();
+        Person later = new PersonBuilder().withAddedOn("2023-11-15T14:31:00").build();
+        assertTrue(earlier.getAddedOnSortKey() < later.getAddedOnSortKey());
+        assertEquals(earlier.getAddedOnSortKey(), earlier.getAddedOnSortKey());
+    }
 }
@@ -1,7 +1,9 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
@@ -94,5 +96,13 @@ public class PreferredLanguageTest {
             assertFalse(!exceptionThrown);
         }
     }
-}
 
+    @Test
+    public void of_differentSpellings_returnsSameInstance() {
+        PreferredLanguage english = PreferredLanguage.of("english");
+        assertSame(english, PreferredLanguage.of("English"));
+        assertSame(english, PreferredLanguage.of(" ENGLISH "));
+        assertThrows(IllegalArgumentException.class, () -> PreferredLanguage.of("english\t"));
+        assertThrows(IllegalArgumentException.class, () -> PreferredLanguage.of("klingon"));
+    }
+}
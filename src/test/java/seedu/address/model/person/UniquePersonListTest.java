@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -13,6 +14,9 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,6 +24,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
@@ -60,6 +65,20 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithNameInDifferentCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -122,6 +141,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -175,6 +202,13 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithNamesDifferingOnlyInCase_throwsDuplicatePersonException() {
+        Person lowerCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toLowerCase()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, lowerCaseAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -260,4 +294,270 @@ public class UniquePersonListTest {
         //   "" (empty country) goes LAST: Charlie Zero
         assertEquals(List.of(ann, bob, alice, charlie), ordered);
     }
+
+    @Test
+    public void add_afterSortByDate_insertsInDateOrder() {
+        list.sortByDate();
+        Person dave = new PersonBuilder()
+                .withName("Dave Delta")
+                .withAddedOn(String.valueOf(LocalDateTime.of(2024, 1, 15, 9, 0)))
+                .build();
+        list.add(dave);
+
+        assertEquals(List.of(charlie, bob, dave, ann, alice), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_afterSortByCountry_movesEditedPersonToNewPosition() {
+        list.sortByCountry();
+        Person editedAlice = new PersonBuilder(alice).withCountry("Brazil").build();
+        list.setPerson(alice, editedAlice);
+
+        assertEquals(List.of(editedAlice, ann, bob, charlie), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_renamedPerson_keepsNameOrder() {
+        Person editedCharlie = new PersonBuilder(charlie).withName("Aaron Zero").build();
+        list.setPerson(charlie, editedCharlie);
+
+        assertEquals(List.of(editedCharlie, alice, ann, bob), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_afterSortByDate_keepsDateOrder() {
+        list.sortByDate();
+        list.remove(bob);
+
+        assertEquals(List.of(charlie, ann, alice), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sortByDate_afterMutationsInNameOrder_reflectsMutations() {
+        Person dave = new PersonBuilder()
+                .withName("Dave Delta")
+                .withAddedOn(String.valueOf(LocalDateTime.of(2024, 1, 15, 9, 0)))
+                .build();
+        Person editedAnn = new PersonBuilder(ann)
+                .withAddedOn(String.valueOf(LocalDateTime.of(2022, 1, 1, 0, 0)))
+                .build();
+        list.add(dave);
+        list.setPerson(ann, editedAnn);
+        list.remove(alice);
+
+        list.sortByDate();
+        assertEquals(List.of(editedAnn, charlie, bob, dave), list.asUnmodifiableObservableList());
+
+        list.sortByName();
+        assertEquals(List.of(editedAnn, bob, charlie, dave), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_afterSortByCountry_keepsCountryOrder() {
+        list.sortByCountry();
+        list.setPersons(List.of(charlie, alice, bob));
+
+        assertEquals(List.of(bob, alice, charlie), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_afterSortByCountry_mergesInCountryOrder() {
+        list.sortByCountry();
+        Person dave = new PersonBuilder().withName("Dave Delta").withCountry("Singapore").build();
+        Person aaron = new PersonBuilder().withName("Aaron Ang").withCountry("China").build();
+        list.addAll(List.of(dave, aaron));
+
+        assertEquals(List.of(aaron, ann, bob, alice, dave, charlie), list.asUnmodifiableObservableList());
+
+        list.sortByName();
+        assertEquals(List.of(aaron, alice, ann, bob, charlie, dave), list.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        Person dave = new PersonBuilder().withName("Dave Delta").build();
+        assertThrows(DuplicatePersonException.class, () -> list.addAll(List.of(dave, alice)));
+        assertFalse(list.contains(dave));
+    }
+
+    @Test
+    public void addAll_duplicateAdditions_throwsDuplicatePersonException() {
+        Person dave = new PersonBuilder().withName("Dave Delta").build();
+        Person upperCaseDave = new PersonBuilder().withName("DAVE DELTA").build();
+        assertThrows(DuplicatePersonException.class, () -> list.addAll(List.of(dave, upperCaseDave)));
+    }
+
+    @Test
+    public void getIndexes_afterAddSetAndRemove_tracksTags() {
+        Tag husband = new Tag(VALID_TAG_HUSBAND);
+        Tag singapore = new Tag("+65");
+        Person dave = new PersonBuilder().withName("Dave Delta").withPhone("+6591234567")
+                .withTags(VALID_TAG_HUSBAND).build();
+        uniquePersonList.add(dave);
+        uniquePersonList.add(ALICE);
+        PersonIndexes indexes = uniquePersonList.getIndexes();
+        assertEquals(1, indexes.countWithTag(husband));
+        assertEquals(Set.of(dave), indexes.withAllTags(List.of(husband, singapore)));
+
+        Person untaggedDave = dave.withTags(Set.of());
+        uniquePersonList.setPerson(dave, untaggedDave);
+        assertEquals(0, indexes.countWithTag(husband));
+        assertEquals(Set.of(untaggedDave), indexes.withAllTags(List.of(singapore)));
+
+        uniquePersonList.remove(untaggedDave);
+        assertEquals(0, indexes.countWithTag(singapore));
+        assertTrue(indexes.withAllTags(List.of(singapore)).isEmpty());
+    }
+
+    @Test
+    public void getIndexes_afterSetPersons_indexesReplacement() {
+        uniquePersonList.add(new PersonBuilder().withName("Dave Delta").withTags(VALID_TAG_HUSBAND).build());
+        uniquePersonList.setPersons(List.of(ALICE, BOB));
+        PersonIndexes indexes = uniquePersonList.getIndexes();
+        assertEquals(0, indexes.countWithTag(new Tag(VALID_TAG_HUSBAND)));
+        assertEquals(Set.of(BOB), indexes.withAllTags(List.of(new Tag(VALID_TAG_FRIEND))));
+        assertFalse(indexes.taggedWithAll(List.of(new Tag(VALID_TAG_FRIEND))).test(ALICE));
+        assertTrue(indexes.taggedWithAll(List.of()).test(ALICE));
+    }
+
+    @Test
+    public void getIndexes_personContainsTagsPredicate_boundToTagIntersection() {
+        Person dave = new PersonBuilder().withName("Dave Delta").withTags(VALID_TAG_FRIEND, VALID_TAG_HUSBAND).build();
+        uniquePersonList.setPersons(List.of(ALICE, BOB, dave));
+        Predicate<Person> bound = new PersonContainsTagsPredicate(
+                List.of(new Tag(VALID_TAG_HUSBAND), new Tag(VALID_TAG_FRIEND))).bindTo(uniquePersonList.getIndexes());
+        assertTrue(bound.test(dave));
+        assertFalse(bound.test(ALICE));
+
+        Person untaggedDave = new PersonBuilder(dave).withTags(VALID_TAG_FRIEND).build();
+        uniquePersonList.setPerson(dave, untaggedDave);
+        assertFalse(bound.test(untaggedDave));
+    }
+
+    @Test
+    public void getIndexes_afterAddAndSetPerson_tracksNameWords() {
+        Person dave = new PersonBuilder().withName("Dave  van Delta").build();
+        uniquePersonList.add(dave);
+        uniquePersonList.add(ALICE);
+        PersonIndexes indexes = uniquePersonList.getIndexes();
+        assertEquals(Set.of(dave, ALICE), indexes.withAnyNameWord(List.of("VAN", "alice")));
+        assertTrue(indexes.namedWithAny(List.of("delta")).test(dave));
+        assertFalse(indexes.namedWithAny(List.of("Del")).test(dave));
+
+        Person renamedDave = new PersonBuilder(dave).withName("Dave Echo").build();
+        uniquePersonList.setPerson(dave, renamedDave);
+        assertTrue(indexes.withAnyNameWord(List.of("delta")).isEmpty());
+        assertEquals(Set.of(renamedDave), indexes.withAnyNameWord(List.of("echo")));
+    }
+
+    @Test
+    public void getIndexes_afterAddAndSetPerson_tracksLooselyFoldedNamesAndOrganisations() {
+        Person jose = new PersonBuilder().withName("José Łukasz").withOrganisation("Université Laval").build();
+        uniquePersonList.add(jose);
+        uniquePersonList.add(ALICE);
+        PersonIndexes indexes = uniquePersonList.getIndexes();
+        assertEquals(Set.of(jose, ALICE), indexes.withAnyLooseNameWord(List.of("JOSE", "ａｌｉｃｅ")));
+        assertEquals(Set.of(jose), indexes.inAnyLooseOrganisation(List.of("universite laval")));
+        assertTrue(indexes.matchingLoosely(List.of("lukasz"), List.of()).test(jose));
+        assertFalse(indexes.matchingLoosely(List.of("luk"), List.of("universite")).test(jose));
+
+        Person movedJose = new PersonBuilder(jose).withOrganisation("NUS").build();
+        uniquePersonList.setPerson(jose, movedJose);
+        assertTrue(indexes.inAnyLooseOrganisation(List.of("universite laval")).isEmpty());
+        assertEquals(Set.of(movedJose), indexes.inAnyLooseOrganisation(List.of("nus")));
+    }
+
+    @Test
+    public void getIndexes_afterEditArchiveAndClear_countsCountriesAndOrganisations() {
+        Person dave = new PersonBuilder().withName("Dave Delta").withCountry("Japan").withOrganisation("NUS").build();
+        Person erin = new PersonBuilder().withName("Erin Echo").withCountry("Japan").withOrganisation("NTU").build();
+        uniquePersonList.setPersons(List.of(dave, erin));
+        PersonIndexes indexes = uniquePersonList.getIndexes();
+        Country japan = new Country("Japan");
+        assertEquals(2, indexes.countWithCountry(japan));
+        assertEquals(Map.of("NUS", 1, "NTU", 1), indexes.countByOrganisation());
+
+        Person movedDave = new PersonBuilder(dave).withCountry("China").withOrganisation("NTU").build();
+        uniquePersonList.setPerson(dave, movedDave);
+        assertEquals(Set.of(erin), indexes.withCountry(japan));
+        assertEquals(Map.of("Japan", 1, "China", 1), indexes.countByCountry());
+        assertEquals(2, indexes.countWithOrganisation("NTU"));
+        assertEquals(0, indexes.countWithOrganisation("NUS"));
+
+        Person archivedErin = erin.withArchivalStatus(true);
+        uniquePersonList.setPerson(erin, archivedErin);
+        assertEquals(Set.of(archivedErin), indexes.withCountry(japan));
+        assertTrue(indexes.fromCountry(japan).test(archivedErin));
+        assertFalse(indexes.fromCountry(japan).test(erin));
+        Predicate<Person> fromJapan = new CountryContainsKeywordPredicate(japan).bindTo(indexes);
+        assertTrue(fromJapan.test(archivedErin));
+        assertFalse(fromJapan.test(movedDave));
+
+        uniquePersonList.setPersons(List.of());
+        assertTrue(indexes.countByCountry().isEmpty());
+        assertTrue(indexes.withOrganisation("NTU").isEmpty());
+    }
+
+    @Test
+    public void getIndexes_afterAddAndRemove_findsNameWordPrefixes() {
+        Person dave = new PersonBuilder().withName("Dave Delta").withCountry("Japan").build();
+        Person dan = new PersonBuilder().withName("Dan Echo").withCountry("Jamaica").build();
+        uniquePersonList.add(dave);
+        uniquePersonList.add(dan);
+        uniquePersonList.add(ALICE);
+        PersonIndexes indexes = uniquePersonList.getIndexes();
+        assertEquals(Set.of(dave, dan), indexes.withNameWordPrefix("DA"));
+        assertEquals(Set.of(dave), indexes.withNameWordPrefix("dav"));
+        assertEquals(Set.of(dave, dan), indexes.withCountryPrefix("ja"));
+        assertTrue(indexes.withNameWordPrefix("davey").isEmpty());
+
+        uniquePersonList.remove(dave);
+        assertEquals(Set.of(dan), indexes.withNameWordPrefix("da"));
+        assertTrue(indexes.withNameWordPrefix("del").isEmpty());
+    }
+
+    @Test
+    public void showPartition_archiveAndUnarchive_movesPersonBetweenPartitionsInEachOrdering() {
+        ObservableList<Person> shown = list.asUnmodifiableShownList();
+        list.showPartition(UniquePersonList.Partition.UNARCHIVED);
+        assertEquals(List.of(alice, ann, bob, charlie), shown);
+
+        Person archivedAnn = ann.withArchivalStatus(true);
+        list.setPerson(ann, archivedAnn);
+        assertEquals(List.of(alice, bob, charlie), shown);
+        assertEquals(List.of(alice, archivedAnn, bob, charlie), list.asUnmodifiableObservableList());
+
+        list.sortByDate();
+        assertEquals(List.of(charlie, bob, alice), shown);
+        list.showPartition(UniquePersonList.Partition.ARCHIVED);
+        assertEquals(List.of(archivedAnn), shown);
+
+        Person archivedBob = bob.withArchivalStatus(true);
+        list.setPerson(bob, archivedBob);
+        list.setPerson(archivedAnn, ann);
+        assertEquals(List.of(archivedBob), shown);
+
+        list.showPartition(UniquePersonList.Partition.ALL);
+        assertEquals(List.of(charlie, archivedBob, ann, alice), shown);
+    }
+
+    @Test
+    public void showPartition_changesInBatch_publishedWhenBatchEnds() {
+        ObservableList<Person> shown = list.asUnmodifiableShownList();
+        list.showPartition(UniquePersonList.Partition.ARCHIVED);
+        assertTrue(shown.isEmpty());
+
+        list.beginBatch();
+        Person archivedAlice = alice.withArchivalStatus(true);
+        list.setPerson(alice, archivedAlice);
+        list.remove(charlie);
+        Person archivedDave = new PersonBuilder().withName("Dave Delta").build().withArchivalStatus(true);
+        list.addAll(List.of(archivedDave));
+        assertTrue(shown.isEmpty());
+        list.endBatch();
+
+        assertEquals(List.of(archivedAlice, archivedDave), shown);
+        list.setPersons(List.of(bob, archivedDave));
+        assertEquals(List.of(archivedDave), shown);
+    }
 }
@@ -0,0 +1,135 @@
+package seedu.address.model.person.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Country;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Person.CommunicationChannel;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonQueryTest {
+
+    private static final PersonQuery FRIENDS = PersonQuery.tag(new Tag("friends"));
+    private static final PersonQuery SINGAPORE = PersonQuery.country(new Country("Singapore"));
+    private static final PersonQuery MEIER = PersonQuery.nameWord("meier");
+    private static final PersonQuery WHATSAPP = PersonQuery.channel(CommunicationChannel.WHATSAPP);
+
+    private PersonIndexes indexes;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = getTypicalAddressBook();
+        indexes = addressBook.getIndexes();
+    }
+
+    @Test
+    public void test_fieldTerms() {
+        assertTrue(FRIENDS.test(ALICE));
+        assertTrue(MEIER.test(new PersonBuilder().withName("Hans MEIER").build()));
+        assertFalse(MEIER.test(ALICE));
+        assertTrue(WHATSAPP.test(BENSON));
+        assertFalse(WHATSAPP.test(ALICE));
+        assertTrue(PersonQuery.organisation("NUS").test(BENSON));
+        assertFalse(PersonQuery.archived().test(ALICE));
+        assertTrue(PersonQuery.archived().test(ALICE.withArchivalStatus(true)));
+
+        LocalDate aliceAdded = LocalDate.of(2023, 11, 15);
+        assertTrue(PersonQuery.addedOn(aliceAdded).test(ALICE));
+        assertTrue(PersonQuery.addedBefore(aliceAdded.plusDays(1)).test(ALICE));
+        assertFalse(PersonQuery.addedAfter(aliceAdded).test(ALICE));
+    }
+
+    @Test
+    public void isIndexed_dependsOnTermsOnly() {
+        assertTrue(FRIENDS.isIndexed());
+        assertFalse(WHATSAPP.isIndexed());
+        assertFalse(PersonQuery.not(FRIENDS).isIndexed());
+
+        // a conjunction needs one indexed part, a disjunction needs all of them
+        assertTrue(PersonQuery.and(List.of(WHATSAPP, FRIENDS)).isIndexed());
+        assertFalse(PersonQuery.or(List.of(WHATSAPP, FRIENDS)).isIndexed());
+        assertTrue(PersonQuery.or(List.of(SINGAPORE, FRIENDS)).isIndexed());
+    }
+
+    @Test
+    public void estimate_conjunctionOfIndexedTerms_mostSelectiveTerm() {
+        assertEquals(3, FRIENDS.estimate(indexes));
+        assertEquals(2, MEIER.estimate(indexes));
+        assertEquals(2, PersonQuery.and(List.of(FRIENDS, WHATSAPP, MEIER)).estimate(indexes));
+        assertEquals(PersonQuery.UNBOUNDED, PersonQuery.not(MEIER).estimate(indexes));
+    }
+
+    @Test
+    public void find_indexedQueries_sameAsTestingEveryPerson() {
+        List<PersonQuery> queries = List.of(
+                PersonQuery.and(List.of(FRIENDS, SINGAPORE, PersonQuery.not(MEIER))),
+                PersonQuery.and(List.of(WHATSAPP, FRIENDS)),
+                PersonQuery.and(List.of(PersonQuery.not(PersonQuery.archived()),
+                        PersonQuery.or(List.of(MEIER, PersonQuery.country(new Country("China")))))),
+                PersonQuery.or(List.of(MEIER, FRIENDS)));
+        for (PersonQuery query : queries) {
+            assertEquals(matchesByTest(query), query.find(indexes), query.toString());
+        }
+        assertEquals(Set.of(ALICE), queries.get(0).find(indexes));
+    }
+
+    @Test
+    public void find_unindexedQuery_returnsNull() {
+        assertNull(PersonQuery.or(List.of(WHATSAPP, FRIENDS)).find(indexes));
+    }
+
+    @Test
+    public void bindTo_anyQuery_sameAsTest() {
+        List<PersonQuery> queries = List.of(
+                PersonQuery.or(List.of(WHATSAPP, PersonQuery.and(List.of(FRIENDS, PersonQuery.not(SINGAPORE))))),
+                PersonQuery.not(PersonQuery.and(List.of(FRIENDS, MEIER))),
+                PersonQuery.and(List.of(FRIENDS, SINGAPORE)));
+        for (PersonQuery query : queries) {
+            for (Person person : getTypicalPersons()) {
+                assertEquals(query.test(person), query.bindTo(indexes).test(person), query + " on " + person);
+            }
+        }
+        assertTrue(queries.get(1).bindTo(indexes).test(ALICE));
+        assertFalse(queries.get(1).bindTo(indexes).test(DANIEL));
+    }
+
+    @Test
+    public void equals() {
+        PersonQuery query = PersonQuery.and(List.of(FRIENDS, PersonQuery.not(MEIER)));
+
+        // same values -> returns true
+        assertEquals(query, PersonQuery.and(List.of(PersonQuery.tag(new Tag("friends")),
+                PersonQuery.not(PersonQuery.nameWord("meier")))));
+
+        // different operator -> returns false
+        assertFalse(query.equals(PersonQuery.or(List.of(FRIENDS, PersonQuery.not(MEIER)))));
+
+        // different term -> returns false
+        assertFalse(query.equals(PersonQuery.and(List.of(FRIENDS, MEIER))));
+
+        assertEquals("(tag:friends AND NOT name:meier)", query.toString());
+    }
+
+    private static Set<Person> matchesByTest(PersonQuery query) {
+        return getTypicalPersons().stream().filter(query::test).collect(Collectors.toSet());
+    }
+}
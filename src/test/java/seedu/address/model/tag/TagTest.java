@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -37,4 +38,11 @@ public class TagTest {
         assertTrue(Tag.isValidTagName(validTag));
     }
 
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of("friends"), Tag.of("friends"));
+        assertFalse(Tag.of("friends") == Tag.of("Friends"));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("friends!"));
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+    }
 }
@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+public class ContactFileReaderTest {
+
+    private static final String CSV_HEADER = "name,phone,email,address,country,tags\n";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSupported() {
+        assertTrue(ContactFileReader.isSupported(Path.of("contacts.csv")));
+        assertTrue(ContactFileReader.isSupported(Path.of("contacts.JSON")));
+        assertFalse(ContactFileReader.isSupported(Path.of("contacts.txt")));
+        assertFalse(ContactFileReader.isSupported(Path.of("contacts")));
+    }
+
+    @Test
+    public void readChunk_csvWithQuotedFields_success() throws Exception {
+        List<ContactFileReader.Row> rows = readAll("contacts.csv", "name,phone,email,address,country,tags,note\n"
+                + "Amy Bee,11111111,amy@example.com,\"Block 312, Amy Street 1\",Singapore,friends;colleagues,\n"
+                + "\n"
+                + "Bob Choo,22222222,bob@example.com,\"Bobby \"\"Street\"\" 3\",,,\"Likes pasta,\nhates pizza\"\n");
+
+        assertEquals(2, rows.size());
+        Person amy = rows.get(0).getPerson();
+        assertEquals(new Name("Amy Bee"), amy.getName());
+        assertEquals("Block 312, Amy Street 1", amy.getAddress().value);
+        assertEquals(2, amy.getTags().stream().filter(tag -> !tag.tagName.startsWith("+")).count());
+        assertTrue(amy.getTags().contains(new Tag("colleagues")));
+
+        Person bob = rows.get(1).getPerson();
+        assertEquals("Bobby \"Street\" 3", bob.getAddress().value);
+        assertEquals("Likes pasta,\nhates pizza", bob.getNote().value);
+        assertEquals(null, bob.getCountry());
+        assertEquals(4, rows.get(1).getRowNumber());
+    }
+
+    @Test
+    public void readChunk_csvWithInvalidRows_reportsRowErrors() throws Exception {
+        List<ContactFileReader.Row> rows = readAll("contacts.csv", CSV_HEADER
+                + "Amy Bee,11111111,amy@example.com,Amy Street,,\n"
+                + "James&,22222222,james@example.com,James Street,,\n"
+                + "Bob Choo,22222222\n");
+
+        assertTrue(rows.get(0).isValid());
+        assertFalse(rows.get(1).isValid());
+        assertEquals(3, rows.get(1).getRowNumber());
+        assertEquals(Name.MESSAGE_CONSTRAINTS, rows.get(1).getError());
+        assertFalse(rows.get(2).isValid());
+        assertEquals(String.format(ContactFileReader.MESSAGE_WRONG_FIELD_COUNT, 6, 2), rows.get(2).getError());
+    }
+
+    @Test
+    public void open_csvMissingRequiredColumns_throwsIoException() throws Exception {
+        Path file = write("contacts.csv", "name,phone\nAmy Bee,11111111\n");
+        assertThrows(IOException.class, () -> ContactFileReader.open(file));
+    }
+
+    @Test
+    public void readChunk_csvUnterminatedQuote_throwsIoException() throws Exception {
+        Path file = write("contacts.csv", CSV_HEADER + "Amy Bee,11111111,amy@example.com,\"Amy Street,,\n");
+        try (ContactFileReader reader = ContactFileReader.open(file)) {
+            assertThrows(IOException.class, reader::readChunk);
+        }
+    }
+
+    @Test
+    public void readChunk_jsonArray_success() throws Exception {
+        List<ContactFileReader.Row> rows = readAll("contacts.json", "[{\"name\": \"Amy Bee\", "
+                + "\"phone\": \"11111111\", \"email\": \"amy@example.com\", \"address\": \"Amy Street\", "
+                + "\"tags\": [\"friends\"]}, {\"name\": \"Bob Choo\"}, null]");
+
+        assertEquals(3, rows.size());
+        assertEquals(new Name("Amy Bee"), rows.get(0).getPerson().getName());
+        assertFalse(rows.get(1).isValid());
+        assertEquals(2, rows.get(1).getRowNumber());
+        assertEquals(ContactFileReader.MESSAGE_NOT_A_PERSON, rows.get(2).getError());
+    }
+
+    @Test
+    public void readChunk_jsonAddressBookFile_success() throws Exception {
+        List<ContactFileReader.Row> rows = readAll("contacts.json", "{\"version\": {\"major\": 1}, \"persons\": "
+                + "[{\"name\": \"Amy Bee\", \"phone\": \"11111111\", \"email\": \"amy@example.com\", "
+                + "\"address\": \"Amy Street\", \"unknownField\": [1, 2]}]}");
+
+        assertEquals(1, rows.size());
+        assertTrue(rows.get(0).isValid());
+    }
+
+    @Test
+    public void open_jsonWithoutPersons_throwsIoException() throws Exception {
+        Path file = write("contacts.json", "{\"people\": []}");
+        assertThrows(IOException.class, () -> ContactFileReader.open(file));
+    }
+
+    @Test
+    public void readChunk_moreRowsThanChunkSize_readsInChunks() throws Exception {
+        StringBuilder csv = new StringBuilder(CSV_HEADER);
+        for (int i = 0; i < ContactFileReader.CHUNK_SIZE + 1; i++) {
+            csv.append("Person ").append(i).append(",11111111,person@example.com,Street,,\n");
+        }
+        Path file = write("contacts.csv", csv.toString());
+        try (ContactFileReader reader = ContactFileReader.open(file)) {
+            assertEquals(ContactFileReader.CHUNK_SIZE, reader.readChunk().size());
+            assertEquals(1, reader.readChunk().size());
+            assertTrue(reader.readChunk().isEmpty());
+        }
+    }
+
+    private Path write(String fileName, String contents) throws IOException {
+        Path file = testFolder.resolve(fileName);
+        Files.writeString(file, contents);
+        return file;
+    }
+
+    private List<ContactFileReader.Row> readAll(String fileName, String contents) throws IOException {
+        List<ContactFileReader.Row> rows = new ArrayList<>();
+        try (ContactFileReader reader = ContactFileReader.open(write(fileName, contents))) {
+            List<ContactFileReader.Row> chunk;
+            while (!(chunk = reader.readChunk()).isEmpty()) {
+                rows.addAll(chunk);
+            }
+        }
+        return rows;
+    }
+}
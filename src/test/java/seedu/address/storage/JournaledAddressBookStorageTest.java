@@ -0,0 +1,285 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonChangeLog;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JournaledAddressBookStorage storageAt(Path filePath) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), Long.MAX_VALUE);
+    }
+
+    private AddressBook readAll(Path filePath) throws DataLoadingException {
+        return new AddressBook(storageAt(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournaledAddressBookStorage(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(storageAt(testFolder.resolve("addressbook.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalAndReplayed() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(filePath));
+        assertEquals(addressBook, readAll(filePath));
+
+        Person editedCarl = new PersonBuilder(CARL).withAddress("1 New Street").build();
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.setPerson(BENSON, BENSON.withArchivalStatus(true));
+        long sizeBefore = Files.size(storage.getJournalPath());
+        storage.saveAddressBook(addressBook);
+
+        List<String> records = Files.readAllLines(storage.getJournalPath());
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 4, records.size());
+        String lastRecords = String.join("\n", records.subList(records.size() - 4, records.size()));
+        assertTrue(lastRecords.contains("\"REMOVE\""));
+        assertTrue(lastRecords.contains("\"ADD\""));
+        assertTrue(lastRecords.contains("\"SET\""));
+        assertTrue(lastRecords.contains("\"ARCHIVE\""));
+        assertTrue(Files.size(storage.getJournalPath()) > sizeBefore);
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_journalUnchanged() throws Exception {
+        JournaledAddressBookStorage storage = storageAt(testFolder.resolve("addressbook.json"));
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long size = Files.size(storage.getJournalPath());
+
+        storage.saveAddressBook(addressBook);
+        assertEquals(size, Files.size(storage.getJournalPath()));
+    }
+
+    @Test
+    public void saveAddressBook_afterReadingSnapshot_journalsOnlyChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(storage.getJournalPath()).size());
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_snapshotsOfChangedBook_journalsOnlyLoggedChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(new AddressBookSnapshot(addressBook));
+        int size = Files.readAllLines(storage.getJournalPath()).size();
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(HOON);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withName("Carl Kurtz").build());
+        storage.saveAddressBook(new AddressBookSnapshot(addressBook));
+
+        List<String> records = Files.readAllLines(storage.getJournalPath());
+        assertEquals(size + 2, records.size());
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changesNoLongerLogged_journalsAllChanges() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        for (int i = 0; i < PersonChangeLog.REMEMBERED_CHANGES; i++) {
+            addressBook.addPerson(HOON);
+            addressBook.removePerson(HOON);
+        }
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, readAll(filePath));
+
+        AddressBook copy = new AddressBook(addressBook);
+        copy.addPerson(HOON);
+        storage.saveAddressBook(copy);
+        assertEquals(copy, readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_pastThreshold_compactsIntoDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage =
+                new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), 0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.awaitCompaction();
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInSnapshot_replayLeavesPersonsUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, BENSON.withArchivalStatus(true));
+        storage.saveAddressBook(addressBook);
+
+        // As if the application stopped after writing the data file but before deleting the journal set aside
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        Path compactingJournalPath = filePath.resolveSibling("addressbook.journal.compacting.jsonl");
+        Files.move(storage.getJournalPath(), compactingJournalPath);
+
+        JournaledAddressBookStorage reopened = storageAt(filePath);
+        assertEquals(addressBook, new AddressBook(reopened.readAddressBook().get()));
+        reopened.awaitCompaction();
+        assertFalse(Files.exists(compactingJournalPath));
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Files.writeString(storage.getJournalPath(), "{\"operation\":\"ADD\",\"person\":{\"na",
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(storage.getJournalPath(), "{\"operation\":\"REMOVE\"}\n", StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, () -> readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_archivedPersonsNotYetRead_kept() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getTypicalAddressBook();
+        original.setPerson(BENSON, BENSON.withArchivalStatus(true));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        ReadOnlyAddressBook unarchived = storage.readUnarchivedAddressBook().get();
+        assertFalse(unarchived.hasAllArchivedPersons());
+        AddressBook addressBook = new AddressBook(unarchived);
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPersons(storage.readArchivedPersons());
+        addressBook.setHasAllArchivedPersons(true);
+        storage.saveAddressBook(addressBook);
+
+        original.addPerson(HOON);
+        assertEquals(List.of(HOON.getName().fullName), Files.readAllLines(storage.getJournalPath()).stream()
+                .map(line -> line.replaceAll(".*\"name\":\"([^\"]*)\".*", "$1")).toList());
+        assertEquals(original, readAll(filePath));
+    }
+
+    @Test
+    public void readUnarchivedAddressBook_journal_archivedRecordsAppliedWhenArchivedPersonsRead() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AddressBook original = new AddressBook();
+        original.addPersons(List.of(ALICE, BENSON.withArchivalStatus(true), CARL, HOON.withArchivalStatus(true)));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        Person editedCarl = new PersonBuilder(CARL).withPhone("99999999").build();
+        addressBook.setPerson(BENSON.withArchivalStatus(true), BENSON);
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.removePerson(HOON.withArchivalStatus(true));
+        storage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage restartedStorage = storageAt(filePath);
+        ReadOnlyAddressBook unarchived = restartedStorage.readUnarchivedAddressBook().get();
+        assertEquals(List.of(ALICE, editedCarl), unarchived.getPersonList());
+        assertFalse(unarchived.hasAllArchivedPersons());
+        List<Person> archivedPersons = restartedStorage.readArchivedPersons();
+        assertEquals(List.of(BENSON), archivedPersons);
+
+        AddressBook session = new AddressBook(unarchived);
+        session.addPersons(archivedPersons);
+        session.setHasAllArchivedPersons(true);
+        long journalSize = Files.size(restartedStorage.getJournalPath());
+        restartedStorage.saveAddressBook(session);
+        assertEquals(journalSize, Files.size(restartedStorage.getJournalPath()));
+        assertEquals(session, readAll(filePath));
+    }
+
+    @Test
+    public void flush_afterSave_nextSaveStillJournaled() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        storage.flush();
+
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, Files.readAllLines(storage.getJournalPath()).size());
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_savedAsSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path otherPath = testFolder.resolve("other.json");
+        JournaledAddressBookStorage storage = storageAt(filePath);
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+
+        assertFalse(Files.exists(storage.getJournalPath()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook(otherPath).get()));
+    }
+}
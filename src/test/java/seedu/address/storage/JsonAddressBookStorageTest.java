@@ -2,22 +2,31 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -107,4 +116,192 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void saveAddressBook_archivedPersons_storedApartAndReadOnDemand() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Person archivedBenson = BENSON.withArchivalStatus(true);
+        AddressBook original = new AddressBook();
+        original.addPersons(List.of(ALICE, archivedBenson));
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        Path archivePath = ArchivedPersonsFile.pathFor(filePath);
+        assertEquals(testFolder.resolve("TempAddressBook.archived.jsonl"), archivePath);
+        assertFalse(Files.readString(filePath).contains(BENSON.getName().fullName));
+        assertEquals(1, Files.readAllLines(archivePath).size());
+
+        JsonAddressBookStorage restartedStorage = new JsonAddressBookStorage(filePath);
+        ReadOnlyAddressBook unarchived = restartedStorage.readUnarchivedAddressBook().get();
+        assertEquals(List.of(ALICE), unarchived.getPersonList());
+        assertFalse(unarchived.hasAllArchivedPersons());
+        assertEquals(List.of(archivedBenson), restartedStorage.readArchivedPersons());
+        assertEquals(original, new AddressBook(restartedStorage.readAddressBook(filePath).get()));
+    }
+
+    @Test
+    public void saveAddressBook_archivedPersonsNotLoaded_appendsNewlyArchivedAndKeepsOthers() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Person archivedBenson = BENSON.withArchivalStatus(true);
+        AddressBook original = new AddressBook();
+        original.addPersons(List.of(ALICE, archivedBenson, CARL));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Path archivePath = ArchivedPersonsFile.pathFor(filePath);
+        String bensonLine = Files.readAllLines(archivePath).get(0);
+
+        // a restarted session that has not loaded the archived persons archives Alice
+        JsonAddressBookStorage restartedStorage = new JsonAddressBookStorage(filePath);
+        AddressBook session = new AddressBook(restartedStorage.readUnarchivedAddressBook().get());
+        Person archivedAlice = ALICE.withArchivalStatus(true);
+        session.setPerson(ALICE, archivedAlice);
+        restartedStorage.saveAddressBook(session);
+        assertEquals(2, Files.readAllLines(archivePath).size());
+        assertEquals(bensonLine, Files.readAllLines(archivePath).get(0));
+
+        // once the archived persons are loaded, unarchiving rewrites the archive
+        session.addPersons(restartedStorage.readArchivedPersons().stream()
+                .filter(person -> !session.hasPerson(person))
+                .toList());
+        session.setHasAllArchivedPersons(true);
+        session.setPerson(archivedAlice, ALICE);
+        restartedStorage.saveAddressBook(session);
+        assertEquals(List.of(bensonLine), Files.readAllLines(archivePath));
+        assertTrue(Files.readString(filePath).contains(ALICE.getName().fullName));
+
+        // clearing the address book before the archived persons are loaded also clears the archive
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        assertTrue(Files.readAllLines(archivePath).isEmpty());
+    }
+
+    @Test
+    public void saveAddressBook_onlyArchivedPersonsChanged_dataFileNotRewritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Person archivedBenson = BENSON.withArchivalStatus(true);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPersons(List.of(ALICE, archivedBenson));
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        // a mark the data file loses if it is rewritten
+        Files.writeString(filePath, " ", StandardOpenOption.APPEND);
+
+        Person editedBenson = new PersonBuilder(archivedBenson).withAddress("1 New Street").build();
+        addressBook.setPerson(archivedBenson, editedBenson);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.readString(filePath).endsWith(" "));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // a restarted storage knows the data file from reading it
+        JsonAddressBookStorage restartedStorage = new JsonAddressBookStorage(filePath);
+        AddressBook session = new AddressBook(restartedStorage.readUnarchivedAddressBook().get());
+        session.addPerson(CARL.withArchivalStatus(true));
+        restartedStorage.saveAddressBook(session);
+        assertTrue(Files.readString(filePath).endsWith(" "));
+
+        session.addPerson(HOON);
+        restartedStorage.saveAddressBook(session);
+        assertFalse(Files.readString(filePath).endsWith(" "));
+        assertTrue(Files.readString(filePath).contains(HOON.getName().fullName));
+    }
+
+    @Test
+    public void readArchivedPersons_incompleteLastPerson_discarded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Person archivedBenson = BENSON.withArchivalStatus(true);
+        AddressBook original = new AddressBook();
+        original.addPersons(List.of(ALICE, archivedBenson));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Path archivePath = ArchivedPersonsFile.pathFor(filePath);
+        String bensonLine = Files.readAllLines(archivePath).get(0);
+        Files.writeString(archivePath, "{\"name\":\"Ca", StandardOpenOption.APPEND);
+
+        JsonAddressBookStorage restartedStorage = new JsonAddressBookStorage(filePath);
+        restartedStorage.readUnarchivedAddressBook();
+        assertEquals(List.of(archivedBenson), restartedStorage.readArchivedPersons());
+        assertEquals(List.of(bensonLine), Files.readAllLines(archivePath));
+    }
+
+    @Test
+    public void saveAddressBook_archivingInterrupted_personKeptInDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        original.addPersons(List.of(ALICE, BENSON));
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // the data file cannot be written after Alice is appended to the archive
+        Path blockedTempFile = Files.createDirectories(testFolder.resolve("TempAddressBook.json.tmp"));
+        Files.createFile(blockedTempFile.resolve("blocker"));
+        AddressBook archived = new AddressBook(original);
+        archived.setPerson(ALICE, ALICE.withArchivalStatus(true));
+        assertThrows(IOException.class, () -> storage.saveAddressBook(archived));
+
+        AddressBook read = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, read);
+        assertFalse(read.getPersonList().get(0).getArchivalStatus());
+    }
+
+    @Test
+    public void saveAddressBook_unarchivingInterrupted_personKeptInDataFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        original.addPersons(List.of(ALICE, BENSON.withArchivalStatus(true)));
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        // the archive cannot be rewritten after Benson is written to the data file
+        Path blockedTempFile = Files.createDirectories(testFolder.resolve("TempAddressBook.archived.jsonl.tmp"));
+        Files.createFile(blockedTempFile.resolve("blocker"));
+        AddressBook unarchived = new AddressBook();
+        unarchived.addPersons(List.of(ALICE, BENSON));
+        assertThrows(IOException.class, () -> storage.saveAddressBook(unarchived));
+
+        AddressBook read = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(unarchived, read);
+        assertFalse(read.getPersonList().get(1).getArchivalStatus());
+    }
+
+    @Test
+    public void readArchivedPersons_duplicatePersons_lastKeptAndRewrittenOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        original.addPersons(List.of(ALICE, BENSON.withArchivalStatus(true)));
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        Path archivePath = ArchivedPersonsFile.pathFor(filePath);
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("99999999").build().withArchivalStatus(true);
+        Files.writeString(archivePath, JsonUtil.toJsonLine(new JsonAdaptedPerson(editedBenson))
+                + System.lineSeparator(), StandardOpenOption.APPEND);
+
+        JsonAddressBookStorage restartedStorage = new JsonAddressBookStorage(filePath);
+        AddressBook session = new AddressBook(restartedStorage.readAddressBook().get());
+        assertEquals(List.of(ALICE, editedBenson), session.getPersonList());
+
+        restartedStorage.saveAddressBook(session);
+        assertEquals(1, Files.readAllLines(archivePath).size());
+    }
+
+    @Test
+    public void saveAddressBook_streamedPersons_sameFormatAsSerializedAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableAddressBook(original)), Files.readString(filePath));
+    }
+
+    @Test
+    public void readAddressBook_otherFieldsAroundPersons_personsRead() throws Exception {
+        Path filePath = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json");
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_noPersons_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "{\"_comment\": \"no persons\"}");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+
+        Files.writeString(filePath, "{\"persons\": {}}");
+        assertThrows(DataLoadingException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
 }
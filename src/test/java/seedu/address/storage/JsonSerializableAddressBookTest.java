@@ -2,15 +2,23 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +52,46 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_personsInSeveralChunks_allConverted() throws Exception {
+        List<Person> persons = personsNamed(3 * ParallelPersonConverter.CHUNK_SIZE + 1);
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+
+        Collections.reverse(persons);
+        AddressBook converted = new JsonSerializableAddressBook(adapted(persons)).toModelType();
+        assertEquals(expected, converted);
+        assertEquals(expected.getPersonList(), converted.getPersonList());
+    }
+
+    @Test
+    public void toModelType_duplicateInLaterChunk_throwsIllegalValueException() {
+        List<Person> persons = personsNamed(2 * ParallelPersonConverter.CHUNK_SIZE);
+        persons.add(persons.get(0));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, ()
+            -> new JsonSerializableAddressBook(adapted(persons)).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidPersonInLaterChunk_throwsIllegalValueException() throws Exception {
+        List<JsonAdaptedPerson> persons = adapted(personsNamed(2 * ParallelPersonConverter.CHUNK_SIZE));
+        String invalidPerson = JsonUtil.toJsonLine(new JsonAdaptedPerson(ALICE))
+                .replace(ALICE.getPhone().value, "+65");
+        persons.add(JsonUtil.fromJsonString(invalidPerson, JsonAdaptedPerson.class));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, ()
+            -> new JsonSerializableAddressBook(persons).toModelType());
+    }
+
+    private static List<Person> personsNamed(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder(ALICE).withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> adapted(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+    }
+
 }
@@ -0,0 +1,168 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindStorageTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path testFolder;
+
+    private final AtomicInteger writeCount = new AtomicInteger();
+    private final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+    private final CountDownLatch writesReleased = new CountDownLatch(1);
+    private volatile IOException writeFailure;
+
+    /**
+     * Returns a write-behind storage over a storage that counts its writes, waits for {@code writesReleased}
+     * before each of them, and fails them with {@code writeFailure} if it is set.
+     */
+    private WriteBehindStorage storageAt(Path filePath) {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                firstWriteStarted.countDown();
+                try {
+                    writesReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writeCount.incrementAndGet();
+                if (writeFailure != null) {
+                    throw writeFailure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        return new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    private AddressBook readAll(Path filePath) throws Exception {
+        return new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_returnsBeforeWriting() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteBehindStorage storage = storageAt(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(filePath));
+
+        writesReleased.countDown();
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changedAfterSave_snapshotWritten() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteBehindStorage storage = storageAt(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+
+        writesReleased.countDown();
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_burstWhileWriting_coalescedIntoOneWrite() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteBehindStorage storage = storageAt(filePath);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        assertTrue(firstWriteStarted.await(10, TimeUnit.SECONDS));
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        writesReleased.countDown();
+        storage.flush();
+        assertEquals(2, writeCount.get());
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_writeFailsWithoutHandler_thrownFromNextSave() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteBehindStorage storage = storageAt(filePath);
+        writeFailure = DUMMY_IO_EXCEPTION;
+        writesReleased.countDown();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertThrows(IOException.class, storage::flush);
+
+        writeFailure = null;
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        assertEquals(addressBook, readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_reportedToHandlerAndWrittenOnFlush() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        WriteBehindStorage storage = storageAt(filePath);
+        CompletableFuture<IOException> reported = new CompletableFuture<>();
+        storage.setSaveFailureHandler(reported::complete);
+        writeFailure = DUMMY_IO_EXCEPTION;
+        writesReleased.countDown();
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertSame(DUMMY_IO_EXCEPTION, reported.get(10, TimeUnit.SECONDS));
+        assertFalse(Files.exists(filePath));
+
+        writeFailure = null;
+        storage.flush();
+        assertEquals(getTypicalAddressBook(), readAll(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writtenBeforeReturning() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        WriteBehindStorage storage = storageAt(testFolder.resolve("addressbook.json"));
+        writesReleased.countDown();
+        storage.saveAddressBook(getTypicalAddressBook(), otherPath);
+        assertEquals(getTypicalAddressBook(), readAll(otherPath));
+    }
+
+    @Test
+    public void flush_nothingSaved_nothingWritten() throws Exception {
+        WriteBehindStorage storage = storageAt(testFolder.resolve("addressbook.json"));
+        storage.flush();
+        assertEquals(0, writeCount.get());
+    }
+}